@@ -0,0 +1,84 @@
+-- Time-windowed leaderboards (today / this week)
+-- Best score per player per window, kept up to date by triggers on results,
+-- so reading a window is a small indexed range instead of a scan of results.
+-- Windows use the machine's local time; weeks start on Monday.
+
+BEGIN TRANSACTION;
+
+CREATE TABLE IF NOT EXISTS leaderboard_daily (
+    day          TEXT    NOT NULL,  -- YYYY-MM-DD (local)
+    player_name  TEXT    NOT NULL,
+    best_score   INTEGER NOT NULL,
+    result_id    INTEGER NOT NULL,  -- results.id of the best attempt
+    played_at    TEXT    NOT NULL,
+    PRIMARY KEY (day, player_name)
+);
+
+CREATE TABLE IF NOT EXISTS leaderboard_weekly (
+    week_start   TEXT    NOT NULL,  -- YYYY-MM-DD of the Monday (local)
+    player_name  TEXT    NOT NULL,
+    best_score   INTEGER NOT NULL,
+    result_id    INTEGER NOT NULL,
+    played_at    TEXT    NOT NULL,
+    PRIMARY KEY (week_start, player_name)
+);
+
+CREATE INDEX IF NOT EXISTS idx_leaderboard_daily_rank
+ON leaderboard_daily(day, best_score DESC, played_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_leaderboard_weekly_rank
+ON leaderboard_weekly(week_start, best_score DESC, played_at DESC);
+
+-- Backfill from existing results: best attempt first, later ones are ignored
+INSERT OR IGNORE INTO leaderboard_daily(day, player_name, best_score, result_id, played_at)
+SELECT date(played_at, 'localtime'), player_name, score, id, played_at
+FROM results ORDER BY score DESC, played_at DESC, id ASC;
+
+INSERT OR IGNORE INTO leaderboard_weekly(week_start, player_name, best_score, result_id, played_at)
+SELECT date(played_at, 'localtime', 'weekday 0', '-6 days'), player_name, score, id, played_at
+FROM results ORDER BY score DESC, played_at DESC, id ASC;
+
+-- New result: keep it if it beats the player's best in that window
+CREATE TRIGGER IF NOT EXISTS trg_results_rollup_insert AFTER INSERT ON results
+BEGIN
+    INSERT INTO leaderboard_daily(day, player_name, best_score, result_id, played_at)
+    VALUES (date(NEW.played_at, 'localtime'), NEW.player_name, NEW.score, NEW.id, NEW.played_at)
+    ON CONFLICT(day, player_name) DO UPDATE SET
+        best_score = excluded.best_score, result_id = excluded.result_id, played_at = excluded.played_at
+    WHERE excluded.best_score > leaderboard_daily.best_score;
+
+    INSERT INTO leaderboard_weekly(week_start, player_name, best_score, result_id, played_at)
+    VALUES (date(NEW.played_at, 'localtime', 'weekday 0', '-6 days'), NEW.player_name, NEW.score, NEW.id, NEW.played_at)
+    ON CONFLICT(week_start, player_name) DO UPDATE SET
+        best_score = excluded.best_score, result_id = excluded.result_id, played_at = excluded.played_at
+    WHERE excluded.best_score > leaderboard_weekly.best_score;
+END;
+
+-- Deleted result: if it was the best one, promote the player's next best in that window
+CREATE TRIGGER IF NOT EXISTS trg_results_rollup_delete AFTER DELETE ON results
+BEGIN
+    DELETE FROM leaderboard_daily
+    WHERE day = date(OLD.played_at, 'localtime') AND player_name = OLD.player_name AND result_id = OLD.id;
+
+    INSERT OR IGNORE INTO leaderboard_daily(day, player_name, best_score, result_id, played_at)
+    SELECT date(played_at, 'localtime'), player_name, score, id, played_at
+    FROM results
+    WHERE player_name = OLD.player_name
+      AND date(played_at, 'localtime') = date(OLD.played_at, 'localtime')
+    ORDER BY score DESC, played_at DESC, id ASC
+    LIMIT 1;
+
+    DELETE FROM leaderboard_weekly
+    WHERE week_start = date(OLD.played_at, 'localtime', 'weekday 0', '-6 days')
+      AND player_name = OLD.player_name AND result_id = OLD.id;
+
+    INSERT OR IGNORE INTO leaderboard_weekly(week_start, player_name, best_score, result_id, played_at)
+    SELECT date(played_at, 'localtime', 'weekday 0', '-6 days'), player_name, score, id, played_at
+    FROM results
+    WHERE player_name = OLD.player_name
+      AND date(played_at, 'localtime', 'weekday 0', '-6 days') = date(OLD.played_at, 'localtime', 'weekday 0', '-6 days')
+    ORDER BY score DESC, played_at DESC, id ASC
+    LIMIT 1;
+END;
+
+COMMIT;
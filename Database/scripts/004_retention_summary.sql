@@ -0,0 +1,63 @@
+-- Retention support
+-- Old raw results are folded into one summary row per player per day (see RetentionJob),
+-- then deleted from results.
+
+BEGIN TRANSACTION;
+
+CREATE TABLE IF NOT EXISTS results_daily_summary (
+    day                 TEXT    NOT NULL,  -- YYYY-MM-DD (local)
+    player_name         TEXT    NOT NULL,
+    attempts            INTEGER NOT NULL,
+    best_score          INTEGER NOT NULL,
+    total_score         INTEGER NOT NULL,
+    total_correct       INTEGER NOT NULL,
+    total_questions     INTEGER NOT NULL,
+    total_duration_sec  INTEGER NOT NULL,
+    PRIMARY KEY (day, player_name)
+);
+
+CREATE INDEX IF NOT EXISTS idx_results_daily_summary_player
+ON results_daily_summary(player_name);
+
+-- Lets the retention job pick the oldest rows without scanning results
+CREATE INDEX IF NOT EXISTS idx_results_played_at
+ON results(played_at);
+
+-- Cheaper delete trigger for bulk deletes: only look for a replacement best when the
+-- deleted row was the best, and read that player's rows for the window as an index range
+DROP TRIGGER IF EXISTS trg_results_rollup_delete;
+
+CREATE TRIGGER trg_results_rollup_delete AFTER DELETE ON results
+BEGIN
+    DELETE FROM leaderboard_daily
+    WHERE day = date(OLD.played_at, 'localtime') AND player_name = OLD.player_name AND result_id = OLD.id;
+
+    INSERT OR IGNORE INTO leaderboard_daily(day, player_name, best_score, result_id, played_at)
+    SELECT date(played_at, 'localtime'), player_name, score, id, played_at
+    FROM results
+    WHERE player_name = OLD.player_name
+      AND played_at >= datetime(date(OLD.played_at, 'localtime'), 'utc')
+      AND played_at <  datetime(date(OLD.played_at, 'localtime'), '+1 day', 'utc')
+      AND NOT EXISTS (SELECT 1 FROM leaderboard_daily
+                      WHERE day = date(OLD.played_at, 'localtime') AND player_name = OLD.player_name)
+    ORDER BY score DESC, played_at DESC, id ASC
+    LIMIT 1;
+
+    DELETE FROM leaderboard_weekly
+    WHERE week_start = date(OLD.played_at, 'localtime', 'weekday 0', '-6 days')
+      AND player_name = OLD.player_name AND result_id = OLD.id;
+
+    INSERT OR IGNORE INTO leaderboard_weekly(week_start, player_name, best_score, result_id, played_at)
+    SELECT date(played_at, 'localtime', 'weekday 0', '-6 days'), player_name, score, id, played_at
+    FROM results
+    WHERE player_name = OLD.player_name
+      AND played_at >= datetime(date(OLD.played_at, 'localtime', 'weekday 0', '-6 days'), 'utc')
+      AND played_at <  datetime(date(OLD.played_at, 'localtime', 'weekday 0', '-6 days'), '+7 days', 'utc')
+      AND NOT EXISTS (SELECT 1 FROM leaderboard_weekly
+                      WHERE week_start = date(OLD.played_at, 'localtime', 'weekday 0', '-6 days')
+                        AND player_name = OLD.player_name)
+    ORDER BY score DESC, played_at DESC, id ASC
+    LIMIT 1;
+END;
+
+COMMIT;
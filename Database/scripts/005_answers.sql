@@ -0,0 +1,28 @@
+-- Per-answer events
+-- One row per submitted (or timed-out) question, written in one batch per quiz attempt
+-- by AnswerRecorder. attempt_id groups the answers of one run of the quiz.
+
+BEGIN TRANSACTION;
+
+CREATE TABLE IF NOT EXISTS answers (
+    id            INTEGER PRIMARY KEY AUTOINCREMENT,
+    attempt_id    TEXT    NOT NULL,  -- random id of the quiz run
+    player_name   TEXT    NOT NULL,
+    question_no   INTEGER NOT NULL,  -- 1-based position in the quiz
+    question_key  TEXT    NOT NULL,  -- Language key of the question (e.g. Q6_TEXT)
+    difficulty    TEXT    NOT NULL,
+    answer        TEXT,              -- NULL when the time ran out
+    correct       INTEGER NOT NULL,  -- 0 | 1
+    time_ms       INTEGER NOT NULL,
+    points        INTEGER NOT NULL,
+    answered_at   TEXT    NOT NULL   -- UTC, yyyy-MM-dd HH:mm:ss
+);
+
+CREATE INDEX IF NOT EXISTS idx_answers_attempt
+ON answers(attempt_id, question_no);
+
+-- Per-question accuracy / timing reports
+CREATE INDEX IF NOT EXISTS idx_answers_question
+ON answers(question_key, correct);
+
+COMMIT;
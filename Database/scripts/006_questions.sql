@@ -0,0 +1,22 @@
+-- Question bank
+-- Read lazily by QuestionRepository: ids per (locale, difficulty) first, full rows only for the
+-- questions actually asked (kept in a bounded LRU cache). The GUI falls back to the built-in
+-- questions while the bank has too few rows for the current language.
+
+BEGIN TRANSACTION;
+
+CREATE TABLE IF NOT EXISTS questions (
+    id          INTEGER PRIMARY KEY AUTOINCREMENT,
+    locale      TEXT    NOT NULL,  -- EN | VI (Language codes)
+    difficulty  TEXT    NOT NULL,  -- easy | medium | hard
+    text        TEXT    NOT NULL,
+    answer      TEXT    NOT NULL,
+    options     TEXT,              -- multiple choice options separated by '|', NULL = text input
+    hint        TEXT               -- NULL = no hint
+);
+
+-- Id lists per language and difficulty come from the index alone
+CREATE INDEX IF NOT EXISTS idx_questions_locale_difficulty
+ON questions(locale, difficulty, id);
+
+COMMIT;
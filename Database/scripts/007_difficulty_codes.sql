@@ -0,0 +1,37 @@
+-- Difficulty codes
+-- questions.difficulty and answers.difficulty hold the codes of main.question.Difficulty
+-- (easy | medium | hard), read back with Difficulty.fromCode. Existing rows are normalised
+-- the same way fromCode reads them (case and spaces ignored, anything else = medium), and
+-- triggers reject other values so the id lookup on idx_questions_locale_difficulty stays exact.
+
+BEGIN TRANSACTION;
+
+UPDATE questions SET difficulty = lower(trim(difficulty))
+WHERE difficulty <> lower(trim(difficulty));
+UPDATE questions SET difficulty = 'medium'
+WHERE difficulty NOT IN ('easy', 'medium', 'hard');
+
+UPDATE answers SET difficulty = lower(trim(difficulty))
+WHERE difficulty <> lower(trim(difficulty));
+UPDATE answers SET difficulty = 'medium'
+WHERE difficulty NOT IN ('easy', 'medium', 'hard');
+
+CREATE TRIGGER IF NOT EXISTS trg_questions_difficulty_insert BEFORE INSERT ON questions
+WHEN NEW.difficulty NOT IN ('easy', 'medium', 'hard')
+BEGIN
+    SELECT RAISE(ABORT, 'questions.difficulty must be easy, medium or hard');
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_questions_difficulty_update BEFORE UPDATE OF difficulty ON questions
+WHEN NEW.difficulty NOT IN ('easy', 'medium', 'hard')
+BEGIN
+    SELECT RAISE(ABORT, 'questions.difficulty must be easy, medium or hard');
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_answers_difficulty_insert BEFORE INSERT ON answers
+WHEN NEW.difficulty NOT IN ('easy', 'medium', 'hard')
+BEGIN
+    SELECT RAISE(ABORT, 'answers.difficulty must be easy, medium or hard');
+END;
+
+COMMIT;
@@ -0,0 +1,42 @@
+-- Leaderboard tie rule
+-- A player's best attempt in a window is the first one in leaderboard order
+-- (score DESC, played_at DESC, id ASC): on equal scores the latest attempt wins, as in the
+-- all-time ranking, the rank indexes and the delete trigger. The insert trigger of 003 kept
+-- the earliest of equal scores; it is replaced and the rollups are rebuilt with the rule.
+
+BEGIN TRANSACTION;
+
+DROP TRIGGER IF EXISTS trg_results_rollup_insert;
+
+-- New result: keep it if it ranks above the player's current best in that window
+-- (a higher score, or the same score played later; a new row always has a higher id)
+CREATE TRIGGER trg_results_rollup_insert AFTER INSERT ON results
+BEGIN
+    INSERT INTO leaderboard_daily(day, player_name, best_score, result_id, played_at)
+    VALUES (date(NEW.played_at, 'localtime'), NEW.player_name, NEW.score, NEW.id, NEW.played_at)
+    ON CONFLICT(day, player_name) DO UPDATE SET
+        best_score = excluded.best_score, result_id = excluded.result_id, played_at = excluded.played_at
+    WHERE excluded.best_score > leaderboard_daily.best_score
+       OR (excluded.best_score = leaderboard_daily.best_score AND excluded.played_at > leaderboard_daily.played_at);
+
+    INSERT INTO leaderboard_weekly(week_start, player_name, best_score, result_id, played_at)
+    VALUES (date(NEW.played_at, 'localtime', 'weekday 0', '-6 days'), NEW.player_name, NEW.score, NEW.id, NEW.played_at)
+    ON CONFLICT(week_start, player_name) DO UPDATE SET
+        best_score = excluded.best_score, result_id = excluded.result_id, played_at = excluded.played_at
+    WHERE excluded.best_score > leaderboard_weekly.best_score
+       OR (excluded.best_score = leaderboard_weekly.best_score AND excluded.played_at > leaderboard_weekly.played_at);
+END;
+
+-- Rebuild: rows kept by the old rule may be the earlier of two equal scores
+DELETE FROM leaderboard_daily;
+DELETE FROM leaderboard_weekly;
+
+INSERT OR IGNORE INTO leaderboard_daily(day, player_name, best_score, result_id, played_at)
+SELECT date(played_at, 'localtime'), player_name, score, id, played_at
+FROM results ORDER BY score DESC, played_at DESC, id ASC;
+
+INSERT OR IGNORE INTO leaderboard_weekly(week_start, player_name, best_score, result_id, played_at)
+SELECT date(played_at, 'localtime', 'weekday 0', '-6 days'), player_name, score, id, played_at
+FROM results ORDER BY score DESC, played_at DESC, id ASC;
+
+COMMIT;
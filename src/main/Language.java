@@ -36,7 +36,14 @@ public class Language {
      * Get text in current language
      */
     public static String get(String key) {
-        if (currentLanguage.equals(VIETNAMESE)) {
+        return get(key, currentLanguage);
+    }
+    
+    /**
+     * Get text in the given language (EN / VI), independent of the current one
+     */
+    public static String get(String key, String lang) {
+        if (VIETNAMESE.equals(lang)) {
             return getVietnamese(key);
         }
         return getEnglish(key);
@@ -96,6 +103,7 @@ public class Language {
             case "RESULT_RATING_GREAT": return "Great job! You're learning well!";
             case "RESULT_RATING_GOOD": return "Good effort! Keep practicing!";
             case "RESULT_RATING_KEEP_TRYING": return "Keep trying! You'll get better!";
+            case "RESULT_HISTORY": return "Your history: %d attempts | Best: %d | Average: %.1f";
             case "PLAY_AGAIN": return "Play Again";
             case "EXIT": return "Exit";
             
@@ -115,6 +123,9 @@ public class Language {
             case "LEADERBOARD_DELETE_CONFIRM_MSG": return "Are you sure you want to delete this player's record?";
             case "LEADERBOARD_DELETE_SUCCESS": return "Player record deleted successfully!";
             case "LEADERBOARD_DELETE_FAILED": return "Failed to delete player record.";
+            case "LEADERBOARD_WINDOW_DAY": return "Today";
+            case "LEADERBOARD_WINDOW_WEEK": return "This Week";
+            case "LEADERBOARD_WINDOW_ALL": return "All Time";
             
             // Questions - Multiple Choice
             case "Q1_MC": return "What is the main purpose of the Singleton pattern?";
@@ -231,6 +242,7 @@ public class Language {
             case "RESULT_RATING_GREAT": return "Tuyệt vời! Bạn đang học rất tốt!";
             case "RESULT_RATING_GOOD": return "Tốt đấy! Hãy tiếp tục luyện tập!";
             case "RESULT_RATING_KEEP_TRYING": return "Cố gắng lên! Bạn sẽ giỏi hơn!";
+            case "RESULT_HISTORY": return "Lịch sử của bạn: %d lần chơi | Cao nhất: %d | Trung bình: %.1f";
             case "PLAY_AGAIN": return "Chơi Lại";
             case "EXIT": return "Thoát";
             
@@ -250,6 +262,9 @@ public class Language {
             case "LEADERBOARD_DELETE_CONFIRM_MSG": return "Bạn có chắc muốn xóa thông tin người chơi này?";
             case "LEADERBOARD_DELETE_SUCCESS": return "Đã xóa thông tin người chơi thành công!";
             case "LEADERBOARD_DELETE_FAILED": return "Xóa thông tin người chơi thất bại.";
+            case "LEADERBOARD_WINDOW_DAY": return "Hôm Nay";
+            case "LEADERBOARD_WINDOW_WEEK": return "Tuần Này";
+            case "LEADERBOARD_WINDOW_ALL": return "Mọi Thời Điểm";
             
             // Questions - Multiple Choice
             case "Q1_MC": return "Mục đích chính của mẫu Singleton là gì?";
@@ -115,7 +115,7 @@ public class QuizApp {
         Question q1 = new BasicQuestion(
             "Java được phát triển bởi công ty nào?",
             "Sun Microsystems",
-            "easy"
+            Difficulty.EASY
         );
         quizManager.addQuestion(q1);
         
@@ -123,7 +123,7 @@ public class QuizApp {
         Question q2 = new BasicQuestion(
             "Design pattern nào đảm bảo chỉ có một instance duy nhất?",
             "Singleton",
-            "medium"
+            Difficulty.MEDIUM
         );
         // DECORATOR PATTERN: Thêm chức năng gợi ý cho câu hỏi
         q2 = new HintQuestion(q2, "Gợi ý: Pattern này bắt đầu bằng chữ 'S'");
@@ -133,7 +133,7 @@ public class QuizApp {
         Question q3 = new BasicQuestion(
             "Từ khóa nào dùng để kế thừa class trong Java?",
             "extends",
-            "hard"
+            Difficulty.HARD
         );
         // DECORATOR PATTERN: Có thể chain nhiều decorator
         q3 = new HintQuestion(q3, "Gợi ý: Từ khóa này có 7 chữ cái");
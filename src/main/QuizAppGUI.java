@@ -3,12 +3,23 @@ package main;
 import main.manager.QuizManager;
 import main.question.*;
 import main.strategy.*;
+import main.model.AnswerEvent;
 import main.model.Result;
-import main.repository.ResultRepository;
+import main.model.PlayerStats;
+import main.repository.AnswerRecorder;
+import main.repository.AnswerRepository;
+import main.repository.LeaderboardWindow;
+import main.repository.QuestionRepository;
+import main.repository.ResultStore;
+import main.repository.ResultWriter;
+import main.repository.RetentionJob;
+import main.repository.SettingsRepository;
+import main.db.Database;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
 
 /**
  * Quiz Learning App - GUI Desktop Application
@@ -46,12 +57,40 @@ public class QuizAppGUI extends JFrame {
     private int correctCount = 0;
     private long totalDurationSec = 0;
     
+    // Results backend (-Dquiz.store, SQLite by default); writes go through the background writer
+    // so a locked quiz.db never freezes the UI
+    private static final ResultStore RESULT_STORE = ResultStore.fromSystemProperties();
+    private static final ResultWriter RESULT_WRITER = new ResultWriter(RESULT_STORE);
+    
+    // Per-answer events: buffered in memory, written in one batch when the quiz ends
+    private static final AnswerRecorder ANSWER_RECORDER = new AnswerRecorder(new AnswerRepository());
+    private String attemptId;
+    private long sessionSeed; // question picks of this attempt; derived from attemptId (see seedFor)
+    private final String[] questionKeys = new String[TOTAL_QUESTIONS]; // Language key per question
+    
+    // LANG / LAST_STRATEGY: loaded once at startup, changes written back in the background
+    private static final SettingsRepository SETTINGS = new SettingsRepository();
+    
+    // Shutdown waits this long for the retention job to finish its current batch
+    private static final long RETENTION_STOP_TIMEOUT_MS = 30_000;
+    
+    // Question bank (questions table), read lazily; empty bank = built-in questions
+    private static final QuestionRepository QUESTION_BANK = new QuestionRepository();
+    private static final Difficulty[] BANK_DIFFICULTIES = {Difficulty.EASY, Difficulty.MEDIUM, Difficulty.HARD};
+    private static final int[] BANK_QUESTIONS_PER_DIFFICULTY = {3, 4, 3};
+    private boolean startingQuiz; // EDT only; true while a SwingWorker picks the questions
+    
     // Multiple choice components
     private ButtonGroup answerButtonGroup;
     private JRadioButton[] answerButtons;
     
-    public QuizAppGUI() {
+    /**
+     * @param lang         language of the last session (SETTINGS, read before the EDT starts)
+     * @param lastStrategy scoring strategy of the last session
+     */
+    public QuizAppGUI(String lang, String lastStrategy) {
         quizManager = QuizManager.getInstance();
+        restoreSettings(lang, lastStrategy);
         
         setTitle("Quiz Learning App - Modern UI");
         setSize(1000, 750);
@@ -79,6 +118,25 @@ public class QuizAppGUI extends JFrame {
         setVisible(true);
     }
     
+    /**
+     * Restore the language and scoring strategy of the last session.
+     */
+    private void restoreSettings(String lang, String lastStrategy) {
+        Language.setLanguage(Language.VIETNAMESE.equals(lang) ? Language.VIETNAMESE : Language.ENGLISH);
+        
+        // Keys match the strategy column of the seed data
+        switch (lastStrategy) {
+            case "Difficulty":
+                quizManager.setScoringStrategy(new DifficultyScoreStrategy());
+                break;
+            case "Speed":
+                quizManager.setScoringStrategy(new SpeedScoreStrategy());
+                break;
+            default:
+                quizManager.setScoringStrategy(new FixedScoreStrategy());
+        }
+    }
+    
     private JPanel createWelcomePanel() {
         JPanel panel = new JPanel(null); // Absolute layout for custom positioning
         panel.setBackground(BG_COLOR);
@@ -146,6 +204,7 @@ public class QuizAppGUI extends JFrame {
         // Toggle language and refresh UI
         langButton.addActionListener(e -> {
             Language.toggleLanguage();
+            SETTINGS.setLanguage(Language.getLanguage());
             refreshAllPanels();
         });
         
@@ -272,6 +331,7 @@ public class QuizAppGUI extends JFrame {
         );
         addStrategyCardClick(card1, () -> {
             quizManager.setScoringStrategy(new FixedScoreStrategy());
+            SETTINGS.setLastStrategy("FixedScore");
             startQuiz();
         });
         panel.add(card1, gbc);
@@ -287,6 +347,7 @@ public class QuizAppGUI extends JFrame {
         );
         addStrategyCardClick(card2, () -> {
             quizManager.setScoringStrategy(new DifficultyScoreStrategy());
+            SETTINGS.setLastStrategy("Difficulty");
             startQuiz();
         });
         panel.add(card2, gbc);
@@ -302,6 +363,7 @@ public class QuizAppGUI extends JFrame {
         );
         addStrategyCardClick(card3, () -> {
             quizManager.setScoringStrategy(new SpeedScoreStrategy());
+            SETTINGS.setLastStrategy("Speed");
             startQuiz();
         });
         panel.add(card3, gbc);
@@ -458,6 +520,14 @@ public class QuizAppGUI extends JFrame {
         strategyLabel.setHorizontalAlignment(SwingConstants.CENTER);
         resultCard.add(strategyLabel);
         
+        // Player history (filled in from the DB after the result is saved)
+        JLabel historyLabel = new JLabel();
+        historyLabel.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        historyLabel.setForeground(TEXT_SECONDARY);
+        historyLabel.setBounds(0, 268, 500, 20);
+        historyLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        resultCard.add(historyLabel);
+        
         // Buttons - 3 buttons evenly spaced
         JButton playAgainButton = createModernButton(Language.get("PLAY_AGAIN"), PRIMARY_COLOR);
         playAgainButton.setBounds(50, 295, 130, 50);
@@ -469,7 +539,7 @@ public class QuizAppGUI extends JFrame {
         
         JButton leaderboardButton = createModernButton(Language.get("LEADERBOARD"), new Color(138, 116, 249));
         leaderboardButton.setBounds(190, 295, 140, 50);
-        leaderboardButton.addActionListener(e -> showLeaderboardDialog());
+        leaderboardButton.addActionListener(e -> showLeaderboardDialog(LeaderboardWindow.ALL_TIME));
         resultCard.add(leaderboardButton);
 
         JButton exitButton = createModernButton(Language.get("EXIT"), ERROR_COLOR);
@@ -483,15 +553,34 @@ public class QuizAppGUI extends JFrame {
         panel.putClientProperty("scoreLabel", scoreLabel);
         panel.putClientProperty("strategyLabel", strategyLabel);
         panel.putClientProperty("ratingLabel", ratingLabel);
+        panel.putClientProperty("historyLabel", historyLabel);
         
         return panel;
     }
 
-    private void showLeaderboardDialog() {
-        // Fetch top results
-        ResultRepository repo = new ResultRepository();
-        java.util.List<main.model.Result> items = repo.listTop(10);
-        
+    /**
+     * Load the top results off the EDT (after the last finished quiz is written), then show them
+     */
+    private void showLeaderboardDialog(LeaderboardWindow window) {
+        new SwingWorker<java.util.List<main.model.Result>, Void>() {
+            @Override
+            protected java.util.List<main.model.Result> doInBackground() {
+                RESULT_WRITER.flush();
+                return RESULT_STORE.listTop(window, 10);
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    showLeaderboardDialog(window, get());
+                } catch (Exception ex) {
+                    System.err.println("[DB] load leaderboard error: " + ex.getMessage());
+                }
+            }
+        }.execute();
+    }
+    
+    private void showLeaderboardDialog(LeaderboardWindow window, java.util.List<main.model.Result> items) {
         // Create custom dialog
         JDialog dialog = new JDialog(this,Language.get("LEADERBOARD"), true);
         dialog.setSize(900, 550);
@@ -640,7 +729,7 @@ public class QuizAppGUI extends JFrame {
                 );
                 
                 if (confirm == JOptionPane.OK_OPTION) {
-                    boolean deleted = repo.deleteById(selectedResult.getId());
+                    boolean deleted = RESULT_STORE.deleteById(selectedResult.getId());
                     if (deleted) {
                         JOptionPane.showMessageDialog(
                             dialog,
@@ -649,7 +738,7 @@ public class QuizAppGUI extends JFrame {
                             JOptionPane.INFORMATION_MESSAGE
                         );
                         dialog.dispose();
-                        showLeaderboardDialog(); // Refresh
+                        showLeaderboardDialog(window); // Refresh
                     } else {
                         JOptionPane.showMessageDialog(
                             dialog,
@@ -702,6 +791,26 @@ public class QuizAppGUI extends JFrame {
         JButton closeButton = createModernButton(Language.get("LEADERBOARD_CLOSE"), PRIMARY_COLOR);
         closeButton.setPreferredSize(new Dimension(150, 45));
         closeButton.addActionListener(e -> dialog.dispose());
+        
+        // Time window selector (Today / This Week / All Time)
+        LeaderboardWindow[] windows = {LeaderboardWindow.DAY, LeaderboardWindow.WEEK, LeaderboardWindow.ALL_TIME};
+        String[] windowLabels = {
+            Language.get("LEADERBOARD_WINDOW_DAY"),
+            Language.get("LEADERBOARD_WINDOW_WEEK"),
+            Language.get("LEADERBOARD_WINDOW_ALL")
+        };
+        JComboBox<String> windowBox = new JComboBox<>(windowLabels);
+        windowBox.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        windowBox.setPreferredSize(new Dimension(170, 45));
+        windowBox.setSelectedIndex(java.util.Arrays.asList(windows).indexOf(window));
+        windowBox.addActionListener(e -> {
+            LeaderboardWindow selected = windows[windowBox.getSelectedIndex()];
+            if (selected != window) {
+                dialog.dispose();
+                showLeaderboardDialog(selected);
+            }
+        });
+        buttonPanel.add(windowBox);
         buttonPanel.add(closeButton);
         
         dialog.add(buttonPanel, BorderLayout.SOUTH);
@@ -710,14 +819,44 @@ public class QuizAppGUI extends JFrame {
     }
     
     private void startQuiz() {
+        if (startingQuiz) {
+            return; // a second click while the questions are loading
+        }
+        startingQuiz = true;
         currentQuestionIndex = 0;
         quizManager.resetScore();
         quizManager.resetQuiz();
         correctCount = 0;
         totalDurationSec = 0;
-        
-        setupQuestions();
-        
+        UUID attempt = UUID.randomUUID();
+        attemptId = attempt.toString();
+        sessionSeed = seedFor(attempt);
+        
+        // Question bank reads (id lists, IN query) run off the EDT, so a locked quiz.db never freezes the UI
+        String locale = Language.getLanguage();
+        SplittableRandom random = new SplittableRandom(sessionSeed);
+        new SwingWorker<BankPick, Void>() {
+            @Override
+            protected BankPick doInBackground() {
+                return pickFromBank(locale, random);
+            }
+            
+            @Override
+            protected void done() {
+                BankPick bank = null;
+                try {
+                    bank = get();
+                } catch (Exception ex) {
+                    System.err.println("[DB] load questions error: " + ex.getMessage());
+                }
+                startingQuiz = false;
+                setupQuestions(bank);
+                showFirstQuestion();
+            }
+        }.execute();
+    }
+    
+    private void showFirstQuestion() {
         cardLayout.show(mainPanel, "QUIZ");
         
         JPanel quizPanel = (JPanel) mainPanel.getComponent(2);
@@ -730,68 +869,65 @@ public class QuizAppGUI extends JFrame {
         displayQuestion(0, questionArea, answerPanel, progressLabel, scoreLabel, timerLabel);
     }
     
-    private void setupQuestions() {
-        Random random = new Random();
-        String[] difficulties = {"easy", "medium", "hard"};
-        
-        // Multiple Choice Questions (5 total)
-        String[][] mcQuestionKeys = {
-            {"Q1_MC", "Q1_A", "Q1_B|Q1_C|Q1_A|Q1_D", "Q1_HINT"},
-            {"Q2_MC", "Q2_A", "Q2_B|Q2_C|Q2_A|Q2_D", "Q2_HINT"},
-            {"Q3_MC", "Q3_A", "Q3_B|Q3_A|Q3_C|Q3_D", "Q3_HINT"},
-            {"Q4_MC", "Q4_A", "Q4_B|Q4_A|Q4_C|Q4_D", "Q4_HINT"},
-            {"Q5_MC", "Q5_A", "Q5_B|Q5_C|Q5_A|Q5_D", "Q5_HINT"}
-        };
-        
-        // Text Input Questions (5 total)
-        String[][] textQuestionKeys = {
-            {"Q6_TEXT", "Q6_ANSWER", "easy", "Q6_HINT"},
-            {"Q7_TEXT", "Q7_ANSWER", "medium", "Q7_HINT"},
-            {"Q8_TEXT", "Q8_ANSWER", "medium", "Q8_HINT"},
-            {"Q9_TEXT", "Q9_ANSWER", "easy", "Q9_HINT"},
-            {"Q10_TEXT", "Q10_ANSWER", "hard", "Q10_HINT"}
-        };
+    /**
+     * Seed of an attempt: -Dquiz.questions.seed if set (replay one session), otherwise taken from
+     * the attempt id, so the questions of any attempt in the answers table can be drawn again.
+     */
+    private static long seedFor(UUID attempt) {
+        Long fixed = Long.getLong("quiz.questions.seed");
+        return fixed != null ? fixed : attempt.getMostSignificantBits() ^ attempt.getLeastSignificantBits();
+    }
+    
+    /**
+     * Questions of this session: the bank pick if there is one, otherwise the built-in questions.
+     */
+    private void setupQuestions(BankPick bank) {
+        if (bank != null) {
+            for (int i = 0; i < TOTAL_QUESTIONS; i++) {
+                quizManager.addQuestion(bank.questions.get(i)); // shared instance, timer included
+                questionKeys[i] = "DB_" + bank.ids.get(i);
+            }
+            return;
+        }
         
-        // Add MC questions
-        for (int i = 0; i < 5; i++) {
-            String[] keys = mcQuestionKeys[i];
-            String questionText = Language.get(keys[0]);
-            String correctAnswer = Language.get(keys[1]);
-            
-            String[] optionKeys = keys[2].split("\\|");
-            String[] options = new String[optionKeys.length];
-            for (int j = 0; j < optionKeys.length; j++) {
-                options[j] = Language.get(optionKeys[j]);
+        // Built-in questions: built once per language, shared by every session
+        java.util.List<Question> builtIn = BuiltInQuestions.forLanguage(Language.getLanguage());
+        for (int i = 0; i < TOTAL_QUESTIONS; i++) {
+            quizManager.addQuestion(builtIn.get(i));
+            questionKeys[i] = BuiltInQuestions.key(i);
+        }
+    }
+    
+    /**
+     * Pick the quiz from the question bank in the given language: 3 easy, 4 medium, 3 hard.
+     * Runs SQL, so call it off the EDT. Returns null when the bank does not have enough questions.
+     */
+    private static BankPick pickFromBank(String locale, SplittableRandom random) {
+        for (int d = 0; d < BANK_DIFFICULTIES.length; d++) {
+            if (QUESTION_BANK.count(locale, BANK_DIFFICULTIES[d]) < BANK_QUESTIONS_PER_DIFFICULTY[d]) {
+                return null;
             }
-            
-            String diff = difficulties[random.nextInt(difficulties.length)];
-            Question question = new MultipleChoiceQuestion(questionText, correctAnswer, options, diff);
-            
-            // No hint for Multiple Choice questions
-            
-            // Add timer to ALL questions - 30 seconds for all
-            question = new TimedQuestion(question, 30);
-            
-            quizManager.addQuestion(question);
         }
         
-        // Add text input questions
-        for (int i = 0; i < 5; i++) {
-            String[] keys = textQuestionKeys[i];
-            String questionText = Language.get(keys[0]);
-            String correctAnswer = Language.get(keys[1]);
-            String diff = keys[2];
-            
-            Question question = new BasicQuestion(questionText, correctAnswer, diff);
-            
-            // Add hint for text input questions (always)
-            String hint = Language.get(keys[3]);
-            question = new HintQuestion(question, hint);
-            
-            // Add timer to ALL questions - 30 seconds for all
-            question = new TimedQuestion(question, 30);
-            
-            quizManager.addQuestion(question);
+        java.util.List<Integer> ids = new java.util.ArrayList<>();
+        for (int d = 0; d < BANK_DIFFICULTIES.length; d++) {
+            ids.addAll(QUESTION_BANK.pickIds(locale, BANK_DIFFICULTIES[d], BANK_QUESTIONS_PER_DIFFICULTY[d], random));
+        }
+        java.util.List<Question> picked = QUESTION_BANK.findByIds(ids);
+        if (picked.size() != TOTAL_QUESTIONS || picked.contains(null)) {
+            return null; // bank changed underneath or DB error
+        }
+        return new BankPick(ids, picked);
+    }
+    
+    /** Questions picked from the bank, with their ids (answers.question_key = "DB_" + id). */
+    private static final class BankPick {
+        final java.util.List<Integer> ids;
+        final java.util.List<Question> questions;
+        
+        BankPick(java.util.List<Integer> ids, java.util.List<Question> questions) {
+            this.ids = ids;
+            this.questions = questions;
         }
     }
     
@@ -810,11 +946,11 @@ public class QuizAppGUI extends JFrame {
         
         answerPanel.removeAll();
         
-        QuestionInfo info = extractQuestionInfo(question);
+        QuestionInfo info = question.getInfo();
         
         // Setup timer for time-limited questions
-        if (info.timeLimit > 0) {
-            remainingSeconds = info.timeLimit;
+        if (info.getTimeLimit() > 0) {
+            remainingSeconds = info.getTimeLimit();
             timerLabel.setText(remainingSeconds + "s");
             timerLabel.setForeground(WARNING_COLOR);
             
@@ -838,6 +974,7 @@ public class QuizAppGUI extends JFrame {
                     );
                     
                     // Mark as incorrect and move to next question
+                    recordAnswer(question, null, false, info.getTimeLimit() * 1000L, 0);
                     currentQuestionIndex++;
                     
                     if (currentQuestionIndex >= TOTAL_QUESTIONS) {
@@ -853,22 +990,22 @@ public class QuizAppGUI extends JFrame {
         }
         
         StringBuilder questionText = new StringBuilder();
-        questionText.append(info.questionText);
+        questionText.append(info.getText());
         // Removed: Difficulty level no longer shown
         
-        if (info.hint != null) {
-            questionText.append("\n\n").append(Language.get("HINT_LABEL")).append(" ").append(info.hint);
+        if (info.getHint() != null) {
+            questionText.append("\n\n").append(Language.get("HINT_LABEL")).append(" ").append(info.getHint());
         }
         // Removed: Time limit no longer shown in question text (only in timer label)
         
         questionArea.setText(questionText.toString());
         
-        if (info.isMultipleChoice) {
+        if (info.isMultipleChoice()) {
             // Modern radio buttons
             answerButtonGroup = new ButtonGroup();
-            answerButtons = new JRadioButton[info.options.length];
+            answerButtons = new JRadioButton[info.getOptions().size()];
             
-            for (int i = 0; i < info.options.length; i++) {
+            for (int i = 0; i < info.getOptions().size(); i++) {
                 JPanel optionPanel = new JPanel(new BorderLayout());
                 optionPanel.setBackground(CARD_BG);
                 optionPanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 55));
@@ -877,7 +1014,7 @@ public class QuizAppGUI extends JFrame {
                     BorderFactory.createEmptyBorder(12, 15, 12, 15)
                 ));
                 
-                answerButtons[i] = new JRadioButton((char)('A' + i) + ". " + info.options[i]);
+                answerButtons[i] = new JRadioButton((char)('A' + i) + ". " + info.getOptions().get(i));
                 answerButtons[i].setFont(new Font("Segoe UI", Font.PLAIN, 16));
                 answerButtons[i].setBackground(CARD_BG);
                 answerButtons[i].setForeground(TEXT_PRIMARY);
@@ -1004,18 +1141,21 @@ public class QuizAppGUI extends JFrame {
             return;
         }
         
-        long timeTaken = (System.currentTimeMillis() - questionStartTime) / 1000;
+        long timeTakenMs = System.currentTimeMillis() - questionStartTime;
+        long timeTaken = timeTakenMs / 1000;
         boolean isCorrect = question.checkAnswer(answer);
         
         if (isCorrect) {
             int score = quizManager.calculateScore(question.getDifficulty(), timeTaken);
             quizManager.addScore(score);
             correctCount++;
+            recordAnswer(question, answer, true, timeTakenMs, score);
             showModernDialog(
                 "CORRECT!\n\nPoints earned: " + score + "\nTotal score: " + quizManager.getTotalScore(),
                 "Great!",
                 JOptionPane.INFORMATION_MESSAGE);
         } else {
+            recordAnswer(question, answer, false, timeTakenMs, 0);
             showModernDialog(
                 "INCORRECT!\n\nCorrect answer: " + question.getCorrectAnswer(),
                 "Oops!",
@@ -1032,52 +1172,21 @@ public class QuizAppGUI extends JFrame {
         }
     }
     
-    private QuestionInfo extractQuestionInfo(Question question) {
-        QuestionInfo info = new QuestionInfo();
-        
-        Question current = question;
-        
-        while (current instanceof QuestionDecorator) {
-            if (current instanceof HintQuestion) {
-                info.hint = ((HintQuestion) current).getHint();
-            } else if (current instanceof TimedQuestion) {
-                info.timeLimit = ((TimedQuestion) current).getTimeLimit();
-            }
-            current = ((QuestionDecorator) current).decoratedQuestion;
-        }
-        
-        if (current instanceof MultipleChoiceQuestion) {
-            MultipleChoiceQuestion mcq = (MultipleChoiceQuestion) current;
-            info.isMultipleChoice = true;
-            info.questionText = mcq.getQuestionText();
-            info.options = mcq.getOptions();
-            info.difficulty = getDifficultyLabel(mcq.getDifficulty());
-        } else if (current instanceof BasicQuestion) {
-            BasicQuestion bq = (BasicQuestion) current;
-            info.isMultipleChoice = false;
-            info.questionText = bq.getQuestionText();
-            info.difficulty = getDifficultyLabel(bq.getDifficulty());
-        }
-        
-        return info;
-    }
-    
-    private String getDifficultyLabel(String difficulty) {
-        switch (difficulty.toLowerCase()) {
-            case "easy": return Language.get("DIFFICULTY_EASY");
-            case "medium": return Language.get("DIFFICULTY_MEDIUM");
-            case "hard": return Language.get("DIFFICULTY_HARD");
-            default: return difficulty;
-        }
-    }
-    
-    private static class QuestionInfo {
-        boolean isMultipleChoice;
-        String questionText;
-        String[] options;
-        String difficulty;
-        String hint;
-        int timeLimit;
+    /**
+     * Buffer one answer event (no DB work here; see AnswerRecorder)
+     */
+    private void recordAnswer(Question question, String answer, boolean correct, long timeMs, int points) {
+        ANSWER_RECORDER.record(new AnswerEvent(
+            attemptId,
+            quizManager.getPlayerName(),
+            currentQuestionIndex + 1,
+            questionKeys[currentQuestionIndex],
+            question.getDifficulty(),
+            answer,
+            correct,
+            timeMs,
+            points
+        ));
     }
     
     private void showResults() {
@@ -1086,6 +1195,7 @@ public class QuizAppGUI extends JFrame {
         JLabel scoreLabel = (JLabel) resultPanel.getClientProperty("scoreLabel");
         JLabel strategyLabel = (JLabel) resultPanel.getClientProperty("strategyLabel");
         JLabel ratingLabel = (JLabel) resultPanel.getClientProperty("ratingLabel");
+        JLabel historyLabel = (JLabel) resultPanel.getClientProperty("historyLabel");
         
         nameLabel.setText(quizManager.getPlayerName());
         scoreLabel.setText(quizManager.getTotalScore() + " / 100");
@@ -1116,14 +1226,43 @@ public class QuizAppGUI extends JFrame {
                 correctCount,
                 totalDurationSec
             );
-            new ResultRepository().save(r);
+            RESULT_WRITER.submit(r);
         } catch (Exception ex) {
             System.err.println("[DB] save result error: " + ex.getMessage());
         }
+        ANSWER_RECORDER.endAttempt();
+        showPlayerHistory(historyLabel, quizManager.getPlayerName());
         
         cardLayout.show(mainPanel, "RESULT");
     }
     
+    /**
+     * Load the player's stats off the EDT (after this run is written) and show them
+     */
+    private void showPlayerHistory(JLabel historyLabel, String playerName) {
+        historyLabel.setText("");
+        new SwingWorker<PlayerStats, Void>() {
+            @Override
+            protected PlayerStats doInBackground() {
+                RESULT_WRITER.flush();
+                return RESULT_STORE.getPlayerStats(playerName);
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    PlayerStats stats = get();
+                    if (stats.getAttempts() > 0) {
+                        historyLabel.setText(String.format(Language.get("RESULT_HISTORY"),
+                            stats.getAttempts(), stats.getBestScore(), stats.getAverageScore()));
+                    }
+                } catch (Exception ex) {
+                    System.err.println("[DB] load player history error: " + ex.getMessage());
+                }
+            }
+        }.execute();
+    }
+    
     private void resetQuiz() {
         currentQuestionIndex = 0;
         quizManager.resetScore();
@@ -1132,6 +1271,7 @@ public class QuizAppGUI extends JFrame {
         answerButtons = null;
         correctCount = 0;
         totalDurationSec = 0;
+        ANSWER_RECORDER.endAttempt(); // keep the answers of an abandoned run
         
         // Stop timer if running
         if (countdownTimer != null && countdownTimer.isRunning()) {
@@ -1426,6 +1566,22 @@ public class QuizAppGUI extends JFrame {
         cardLayout.show(mainPanel, "WELCOME");
     }
     
+    /**
+     * Interrupt the retention job (it stops between batches) and wait for the batch in progress,
+     * so no archive is left half-written and no rows are deleted after the DB is closed.
+     */
+    private static void stopRetention(Thread retentionThread) {
+        if (retentionThread == null || !retentionThread.isAlive()) {
+            return;
+        }
+        retentionThread.interrupt();
+        try {
+            retentionThread.join(RETENTION_STOP_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     public static void main(String[] args) {
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
@@ -1433,6 +1589,37 @@ public class QuizAppGUI extends JFrame {
             e.printStackTrace();
         }
         
-        SwingUtilities.invokeLater(() -> new QuizAppGUI());
+        // Optional: move results older than -Dquiz.retention.days into daily summaries
+        RetentionJob retention = RetentionJob.fromSystemProperties();
+        Thread retentionThread = null;
+        if (retention.isEnabled()) {
+            retentionThread = new Thread(() -> {
+                try {
+                    retention.run();
+                } catch (Exception e) {
+                    System.err.println("[DB] retention failed: " + e.getMessage());
+                }
+            }, "retention");
+        }
+        
+        // Stop the retention job after its current batch, write queued results,
+        // then close pooled DB connections on exit
+        Thread retentionToStop = retentionThread;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            stopRetention(retentionToStop);
+            RESULT_WRITER.shutdown();
+            ANSWER_RECORDER.shutdown();
+            SETTINGS.shutdown();
+            RESULT_STORE.close();
+            Database.shutdown();
+        }));
+        if (retentionThread != null) {
+            retentionThread.start();
+        }
+        
+        // Settings are read here, not on the EDT: the first query opens quiz.db and may run migrations
+        String lang = SETTINGS.getLanguage(Language.ENGLISH);
+        String lastStrategy = SETTINGS.getLastStrategy("FixedScore");
+        SwingUtilities.invokeLater(() -> new QuizAppGUI(lang, lastStrategy));
     }
 }
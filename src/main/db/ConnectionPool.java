@@ -0,0 +1,237 @@
+package main.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Small pool of reusable JDBC connections.
+ * - At most maxOpen physical connections exist at once (borrowed + idle); when all are borrowed,
+ *   borrow() waits up to borrowTimeoutMs for one to come back, then fails with SQLException
+ * - Keeps at most maxIdle connections open between uses
+ * - Connections idle longer than idleTimeoutMs are closed lazily (on borrow/release)
+ * - Callers just close() the returned connection; it goes back to the pool
+ */
+final class ConnectionPool {
+    private final String url;
+    private final int maxIdle;
+    private final int maxOpen;
+    private final long idleTimeoutMs;
+    private final long borrowTimeoutMs;
+    private final ArrayDeque<IdleConnection> idle = new ArrayDeque<>();
+    private int open; // physical connections borrowed or idle, guarded by this
+    private boolean shutdown;
+
+    ConnectionPool(String url, int maxIdle, int maxOpen, long idleTimeoutMs, long borrowTimeoutMs) {
+        this.url = url;
+        this.maxOpen = Math.max(1, maxOpen);
+        this.maxIdle = Math.min(Math.max(0, maxIdle), this.maxOpen);
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.borrowTimeoutMs = Math.max(0, borrowTimeoutMs);
+    }
+
+    /**
+     * Borrow a connection (reused if one is idle, otherwise a new physical one while fewer than
+     * maxOpen exist, otherwise wait for a release).
+     * @param fresh receives the physical connection when it was just opened (may be null)
+     */
+    Connection borrow(ConnectionInitializer fresh) throws SQLException {
+        Connection physical = null;
+        synchronized (this) {
+            long deadline = System.currentTimeMillis() + borrowTimeoutMs;
+            while (true) {
+                if (shutdown) {
+                    throw new SQLException("Connection pool is shut down");
+                }
+                evictExpired(System.currentTimeMillis());
+                while (physical == null && !idle.isEmpty()) {
+                    Connection candidate = idle.pollLast().connection;
+                    if (!candidate.isClosed()) {
+                        physical = candidate;
+                    } else {
+                        open--;
+                    }
+                }
+                if (physical != null) {
+                    return wrap(physical);
+                }
+                if (open < maxOpen) {
+                    open++; // reserve the slot; the connection is opened outside the lock
+                    break;
+                }
+                long wait = deadline - System.currentTimeMillis();
+                if (wait <= 0) {
+                    throw new SQLException("No free DB connection within " + borrowTimeoutMs + " ms ("
+                            + maxOpen + " in use, quiz.db.maxOpen)");
+                }
+                try {
+                    wait(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while waiting for a DB connection", e);
+                }
+            }
+        }
+        try {
+            physical = DriverManager.getConnection(url);
+            if (fresh != null) {
+                fresh.init(physical);
+            }
+        } catch (SQLException | RuntimeException e) {
+            if (physical != null) {
+                closeQuietly(physical);
+            }
+            closed();
+            throw e;
+        }
+        return wrap(physical);
+    }
+
+    /** Close every idle connection and refuse further borrows. */
+    synchronized void shutdown() {
+        shutdown = true;
+        while (!idle.isEmpty()) {
+            closeQuietly(idle.pollFirst().connection);
+            open--;
+        }
+        notifyAll(); // waiting borrowers fail at once
+    }
+
+    synchronized int openCount() {
+        return open;
+    }
+
+    /** A physical connection was closed: free its slot for a waiting borrower. */
+    private synchronized void closed() {
+        open--;
+        notifyAll();
+    }
+
+    synchronized int idleCount() {
+        return idle.size();
+    }
+
+    private void release(Connection physical) {
+        try {
+            if (physical.isClosed()) {
+                closed();
+                return;
+            }
+            // reset per-borrow state so the next caller gets a clean connection
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            closeQuietly(physical);
+            closed();
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            evictExpired(now);
+            if (!shutdown && idle.size() < maxIdle) {
+                idle.addLast(new IdleConnection(physical, now));
+                notify(); // one waiting borrower can take it
+                return;
+            }
+        }
+        closeQuietly(physical);
+        closed();
+    }
+
+    // caller holds the lock
+    private void evictExpired(long now) {
+        Iterator<IdleConnection> it = idle.iterator();
+        while (it.hasNext()) {
+            IdleConnection ic = it.next();
+            if (now - ic.since >= idleTimeoutMs) {
+                it.remove();
+                closeQuietly(ic.connection);
+                open--;
+            }
+        }
+    }
+
+    private Connection wrap(Connection physical) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new PooledHandler(physical));
+    }
+
+    private static void closeQuietly(Connection conn) {
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+            // already broken, nothing else to do
+        }
+    }
+
+    /** Hook run once on each newly opened physical connection. */
+    interface ConnectionInitializer {
+        void init(Connection conn) throws SQLException;
+    }
+
+    private static final class IdleConnection {
+        final Connection connection;
+        final long since;
+
+        IdleConnection(Connection connection, long since) {
+            this.connection = connection;
+            this.since = since;
+        }
+    }
+
+    /** Forwards everything to the physical connection except close()/isClosed(). */
+    private final class PooledHandler implements InvocationHandler {
+        private final Connection physical;
+        private boolean closed;
+
+        PooledHandler(Connection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(physical);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || physical.isClosed();
+                case "unwrap":
+                    if (args != null && args[0] == Connection.class) {
+                        return proxy;
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + physical + "]";
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Connection already returned to pool");
+            }
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -1,49 +1,124 @@
 package main.db;
 
+import java.nio.file.Paths;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Simple SQLite connection helper.
- * - DB file path: Database/data/quiz.db (relative to project root)
- * - Auto-creates schema if not exists
+ * - DB file path: Database/data/quiz.db (relative to project root), or quiz.db.file
+ * - Schema comes from versioned scripts in Database/scripts (see {@link MigrationRunner}),
+ *   checked once per process
+ * - Connections come from a small pool; close() returns them for reuse
+ * - Each new connection gets the PRAGMAs of the selected {@link DatabaseProfile}
+ *
+ * Tuning (JVM system properties):
+ * - quiz.db.poolSize      max idle connections kept open between uses (default 4)
+ * - quiz.db.maxOpen       max connections open at once, idle or in use (default 8)
+ * - quiz.db.borrowTimeoutMs how long getConnection() waits when all maxOpen are in use (default 10000)
+ * - quiz.db.idleTimeoutMs idle connections older than this are closed (default 60000)
+ * - quiz.db.profile       safe | balanced | fast (default safe)
+ * - quiz.db.checkpointSec WAL checkpoint period for WAL profiles, 0 = SQLite auto only (default 60)
+ * - quiz.db.seedDemo      also apply demo seed scripts (default false)
+ * - quiz.db.file          another DB file, e.g. a scratch copy for benchmarks (read once, at first use)
  */
 public final class Database {
-    private static final String DB_URL = "jdbc:sqlite:Database\\data\\quiz.db";
+    private static final String DB_URL = "jdbc:sqlite:" + System.getProperty("quiz.db.file", "Database\\data\\quiz.db");
+    private static final String SCRIPTS_DIR = "Database/scripts";
+
+    private static final int POOL_SIZE = Integer.getInteger("quiz.db.poolSize", 4);
+    private static final int MAX_OPEN = Integer.getInteger("quiz.db.maxOpen", 8);
+    private static final long IDLE_TIMEOUT_MS = Long.getLong("quiz.db.idleTimeoutMs", 60_000L);
+    private static final long BORROW_TIMEOUT_MS = Long.getLong("quiz.db.borrowTimeoutMs", 10_000L);
+
+    private static final DatabaseProfile PROFILE = DatabaseProfile.fromName(System.getProperty("quiz.db.profile"));
+    private static final long CHECKPOINT_SEC = Long.getLong("quiz.db.checkpointSec", 60L);
+
+    private static final ConnectionPool POOL = new ConnectionPool(DB_URL, POOL_SIZE, MAX_OPEN, IDLE_TIMEOUT_MS, BORROW_TIMEOUT_MS);
+    private static volatile boolean initialized;
+    private static ScheduledExecutorService checkpointer;
+
+    static {
+        if (PROFILE.usesWal() && CHECKPOINT_SEC > 0) {
+            checkpointer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "wal-checkpoint");
+                t.setDaemon(true);
+                return t;
+            });
+            checkpointer.scheduleWithFixedDelay(() -> checkpoint(false),
+                    CHECKPOINT_SEC, CHECKPOINT_SEC, TimeUnit.SECONDS);
+        }
+    }
 
     private Database() {}
 
     public static Connection getConnection() throws SQLException {
-        Connection conn = DriverManager.getConnection(DB_URL);
-        // initialize schema once per process (idempotent)
-        initialize(conn);
-        return conn;
+        return POOL.borrow(conn -> {
+            PROFILE.apply(conn);
+            initializeOnce(conn);
+        });
+    }
+
+    public static DatabaseProfile getProfile() {
+        return PROFILE;
+    }
+
+    /**
+     * Copy WAL content back into quiz.db.
+     * @param truncate true to also reset the WAL file to zero bytes (waits for readers)
+     */
+    public static void checkpoint(boolean truncate) {
+        if (!PROFILE.usesWal()) {
+            return;
+        }
+        try (Connection conn = getConnection();
+             Statement st = conn.createStatement()) {
+            st.execute(truncate ? "PRAGMA wal_checkpoint(TRUNCATE)" : "PRAGMA wal_checkpoint(PASSIVE)");
+        } catch (SQLException e) {
+            System.err.println("[DB] WAL checkpoint failed: " + e.getMessage());
+        }
+    }
+
+    /** Checkpoint the WAL and close pooled connections (call on application exit). */
+    public static void shutdown() {
+        if (checkpointer != null) {
+            checkpointer.shutdownNow();
+        }
+        checkpoint(true);
+        POOL.shutdown();
     }
 
-    private static void initialize(Connection conn) {
+    private static void initializeOnce(Connection conn) {
+        if (initialized) {
+            return;
+        }
+        synchronized (Database.class) {
+            if (!initialized) {
+                // only a successful migration counts; otherwise the next new connection retries
+                initialized = initialize(conn);
+            }
+        }
+    }
+
+    /** @return true when the schema is up to date */
+    private static boolean initialize(Connection conn) {
         try (Statement st = conn.createStatement()) {
-            st.executeUpdate("CREATE TABLE IF NOT EXISTS results (" +
-                    "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
-                    "player_name TEXT NOT NULL, " +
-                    "strategy TEXT NOT NULL, " +
-                    "score INTEGER NOT NULL, " +
-                    "total_questions INTEGER NOT NULL, " +
-                    "correct_answers INTEGER NOT NULL, " +
-                    "duration_sec INTEGER NOT NULL, " +
-                    "played_at TEXT NOT NULL DEFAULT (datetime('now'))" +
-                    ")");
-
-            st.executeUpdate("CREATE TABLE IF NOT EXISTS settings (" +
-                    "key TEXT PRIMARY KEY, " +
-                    "value TEXT" +
-                    ")");
-
-            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_results_score_played_at ON results(score DESC, played_at DESC)");
-            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_results_player_played_at ON results(player_name, played_at DESC)");
-        } catch (SQLException ignored) {
-            // schema init best-effort; repositories should still work if tables exist
+            // only takes effect on a new, empty file; lets RetentionJob reclaim space in small slices
+            st.execute("PRAGMA auto_vacuum=INCREMENTAL");
+        } catch (SQLException e) {
+            System.err.println("[DB] auto_vacuum setup failed: " + e.getMessage());
+        }
+        try {
+            new MigrationRunner(Paths.get(SCRIPTS_DIR), Boolean.getBoolean("quiz.db.seedDemo")).migrate(conn);
+            return true;
+        } catch (Exception e) {
+            // best-effort; repositories still work if the schema already exists
+            System.err.println("[DB] schema migration failed (retried on the next new connection): " + e.getMessage());
+            return false;
         }
     }
 }
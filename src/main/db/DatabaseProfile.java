@@ -0,0 +1,67 @@
+package main.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQLite durability/performance profiles, applied to every new physical connection.
+ *
+ * - SAFE:     rollback journal + synchronous=FULL (driver defaults, works on network shares)
+ * - BALANCED: WAL + synchronous=NORMAL (no corruption on crash; last commits may be lost on power loss)
+ * - FAST:     BALANCED + 256 MB mmap, 64 MB page cache, temp tables in memory
+ *
+ * WAL needs the DB on a local disk: do not use BALANCED/FAST when quiz.db lives on a shared folder.
+ */
+public enum DatabaseProfile {
+    SAFE(false,
+            "PRAGMA journal_mode=DELETE",
+            "PRAGMA synchronous=FULL"),
+    BALANCED(true,
+            "PRAGMA journal_mode=WAL",
+            "PRAGMA synchronous=NORMAL"),
+    FAST(true,
+            "PRAGMA journal_mode=WAL",
+            "PRAGMA synchronous=NORMAL",
+            "PRAGMA mmap_size=268435456",
+            "PRAGMA cache_size=-65536",
+            "PRAGMA temp_store=MEMORY");
+
+    // wait for other writers instead of failing immediately with SQLITE_BUSY
+    private static final String BUSY_TIMEOUT = "PRAGMA busy_timeout=5000";
+
+    private final boolean wal;
+    private final String[] pragmas;
+
+    DatabaseProfile(boolean wal, String... pragmas) {
+        this.wal = wal;
+        this.pragmas = pragmas;
+    }
+
+    public boolean usesWal() {
+        return wal;
+    }
+
+    void apply(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            st.execute(BUSY_TIMEOUT);
+            for (String pragma : pragmas) {
+                st.execute(pragma);
+            }
+        }
+    }
+
+    /**
+     * Parse a profile name ("safe", "balanced", "fast"); unknown names fall back to SAFE.
+     */
+    public static DatabaseProfile fromName(String name) {
+        if (name != null) {
+            for (DatabaseProfile p : values()) {
+                if (p.name().equalsIgnoreCase(name.trim())) {
+                    return p;
+                }
+            }
+        }
+        return SAFE;
+    }
+}
@@ -0,0 +1,141 @@
+package main.db;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures each {@link DatabaseProfile} on the real schema: single-row saves (one commit each),
+ * batched saves (one transaction per batch) and top-10 reads.
+ * - Every profile gets its own temporary DB file, migrated from Database/scripts (run from the
+ *   project root), so results and leaderboard triggers cost what they cost in the app; quiz.db is not touched
+ * - Each profile runs an untimed warm-up pass on a separate file first
+ * - Numbers depend mostly on the disk: SAFE pays one fsync per commit, WAL profiles far fewer
+ *
+ * Command line: java -cp "bin;lib\sqlite-jdbc.jar" main.db.DatabaseProfileBenchmark [rows] [safe|balanced|fast ...]
+ */
+public class DatabaseProfileBenchmark {
+    private static final String INSERT_SQL =
+            "INSERT INTO results(player_name, strategy, score, total_questions, correct_answers, duration_sec, played_at) " +
+            "VALUES(?, ?, ?, ?, ?, ?, datetime('now', ?))";
+    private static final String TOP_SQL =
+            "SELECT id, player_name, score, played_at FROM results ORDER BY score DESC, played_at DESC, id ASC LIMIT 10";
+
+    private static final int PLAYERS = 100;
+    private static final int SINGLE_SAVES = 300;
+    private static final int BATCH = 1000;
+    private static final int READS = 2000;
+
+    private final int rows;
+    private final boolean quiet;
+
+    public DatabaseProfileBenchmark(int rows, boolean quiet) {
+        this.rows = Math.max(BATCH, rows);
+        this.quiet = quiet;
+    }
+
+    public void run(DatabaseProfile profile) throws Exception {
+        Path file = Files.createTempFile("profile-bench", ".db");
+        try {
+            try (Connection conn = DriverManager.getConnection("jdbc:sqlite:" + file)) {
+                profile.apply(conn);
+                try (Statement st = conn.createStatement()) {
+                    st.execute("PRAGMA auto_vacuum=INCREMENTAL"); // as Database does for a new file
+                }
+                new MigrationRunner(Paths.get("Database/scripts"), false).migrate(conn);
+                measure(profile, conn);
+            }
+        } finally {
+            for (String suffix : new String[] {"", "-wal", "-shm", "-journal"}) {
+                Files.deleteIfExists(file.resolveSibling(file.getFileName() + suffix));
+            }
+        }
+    }
+
+    private void measure(DatabaseProfile profile, Connection conn) throws SQLException {
+        Random rnd = new Random(42);
+
+        long start = System.nanoTime();
+        try (PreparedStatement ps = conn.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < SINGLE_SAVES; i++) {
+                bind(ps, rnd, i);
+                ps.executeUpdate(); // autocommit: one transaction per row, like ResultRepository.save
+            }
+        }
+        double singleSec = (System.nanoTime() - start) / 1e9;
+
+        start = System.nanoTime();
+        conn.setAutoCommit(false);
+        try (PreparedStatement ps = conn.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < rows; i++) {
+                bind(ps, rnd, SINGLE_SAVES + i);
+                ps.addBatch();
+                if ((i + 1) % BATCH == 0 || i == rows - 1) {
+                    ps.executeBatch();
+                    conn.commit();
+                }
+            }
+        } finally {
+            conn.setAutoCommit(true);
+        }
+        double batchSec = (System.nanoTime() - start) / 1e9;
+
+        start = System.nanoTime();
+        long sink = 0;
+        try (PreparedStatement ps = conn.prepareStatement(TOP_SQL)) {
+            for (int i = 0; i < READS; i++) {
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        sink += rs.getInt(1);
+                    }
+                }
+            }
+        }
+        double readUs = (System.nanoTime() - start) / 1000.0 / READS;
+
+        if (quiet || sink < 0) {
+            return;
+        }
+        System.out.printf("  %-9s %7.0f rows/s single | %8.0f rows/s batched | listTop(10) %6.1f us%n",
+                profile, SINGLE_SAVES / singleSec, rows / batchSec, readUs);
+    }
+
+    private static void bind(PreparedStatement ps, Random rnd, int i) throws SQLException {
+        ps.setString(1, "bench-" + rnd.nextInt(PLAYERS));
+        ps.setString(2, "Normal");
+        ps.setInt(3, rnd.nextInt(150));
+        ps.setInt(4, 10);
+        ps.setInt(5, rnd.nextInt(11));
+        ps.setLong(6, 30 + rnd.nextInt(300));
+        ps.setString(7, "-" + i + " seconds"); // spread over the last days, newest first
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<DatabaseProfile> profiles = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            profiles.add(DatabaseProfile.fromName(args[i]));
+        }
+        if (profiles.isEmpty()) {
+            for (DatabaseProfile p : DatabaseProfile.values()) {
+                profiles.add(p);
+            }
+        }
+
+        System.out.println("== " + SINGLE_SAVES + " single saves, " + rows + " rows in batches of " + BATCH
+                + ", " + READS + " top-10 reads");
+        for (DatabaseProfile profile : profiles) {
+            new DatabaseProfileBenchmark(rows / 10, true).run(profile);
+            new DatabaseProfileBenchmark(rows, false).run(profile);
+        }
+    }
+}
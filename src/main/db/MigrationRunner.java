@@ -0,0 +1,217 @@
+package main.db;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Versioned schema migrations from Database/scripts.
+ * - Scripts are named NNN_description.sql and applied once, in version order
+ * - Applied versions and SHA-256 checksums are recorded in schema_migrations
+ * - Later startups only read schema_migrations (no DDL)
+ * - Demo seed scripts (*_seed_*.sql) are only applied with -Dquiz.db.seedDemo=true
+ *
+ * To add an index as data grows: drop a new 00N_*.sql file into Database/scripts.
+ */
+final class MigrationRunner {
+    private static final Pattern SCRIPT_NAME = Pattern.compile("(\\d+)_.+\\.sql");
+    private static final Pattern TRIGGER_END = Pattern.compile("\\bEND$");
+
+    private final Path scriptsDir;
+    private final boolean includeSeeds;
+
+    MigrationRunner(Path scriptsDir, boolean includeSeeds) {
+        this.scriptsDir = scriptsDir;
+        this.includeSeeds = includeSeeds;
+    }
+
+    /**
+     * Apply every pending script.
+     * @return number of scripts applied by this call
+     */
+    int migrate(Connection conn) throws SQLException, IOException {
+        TreeMap<Integer, Path> scripts = findScripts();
+        Map<Integer, String> applied = loadApplied(conn);
+
+        int count = 0;
+        for (Map.Entry<Integer, Path> e : scripts.entrySet()) {
+            int version = e.getKey();
+            Path script = e.getValue();
+            String sql = new String(Files.readAllBytes(script), StandardCharsets.UTF_8);
+            String checksum = sha256(sql.replace("\r\n", "\n")); // same value for CRLF checkouts
+
+            String known = applied.get(version);
+            if (known != null) {
+                if (!known.equals(checksum)) {
+                    System.err.println("[DB] migration " + script.getFileName() + " changed after it was applied (checksum mismatch); not re-running");
+                }
+                continue;
+            }
+            if (apply(conn, version, script.getFileName().toString(), sql, checksum)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private TreeMap<Integer, Path> findScripts() throws IOException {
+        TreeMap<Integer, Path> scripts = new TreeMap<>();
+        if (!Files.isDirectory(scriptsDir)) {
+            throw new IOException("migration scripts not found: " + scriptsDir.toAbsolutePath());
+        }
+        try (DirectoryStream<Path> dir = Files.newDirectoryStream(scriptsDir, "*.sql")) {
+            for (Path p : dir) {
+                String name = p.getFileName().toString();
+                Matcher m = SCRIPT_NAME.matcher(name);
+                if (!m.matches() || (!includeSeeds && name.contains("_seed_"))) {
+                    continue;
+                }
+                Path previous = scripts.put(Integer.parseInt(m.group(1)), p);
+                if (previous != null) {
+                    throw new IOException("duplicate migration version: " + previous.getFileName() + ", " + name);
+                }
+            }
+        }
+        return scripts;
+    }
+
+    private static Map<Integer, String> loadApplied(Connection conn) throws SQLException {
+        Map<Integer, String> applied = new HashMap<>();
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT version, checksum FROM schema_migrations")) {
+            while (rs.next()) {
+                applied.put(rs.getInt(1), rs.getString(2));
+            }
+            return applied;
+        } catch (SQLException noTable) {
+            // first run on this DB file
+        }
+        try (Statement st = conn.createStatement()) {
+            st.executeUpdate("CREATE TABLE IF NOT EXISTS schema_migrations (" +
+                    "version INTEGER PRIMARY KEY, " +
+                    "name TEXT NOT NULL, " +
+                    "checksum TEXT NOT NULL, " +
+                    "applied_at TEXT NOT NULL DEFAULT (datetime('now'))" +
+                    ")");
+        }
+        return applied;
+    }
+
+    /**
+     * Run one script in its own transaction. The schema_migrations row is written first:
+     * it takes the write lock, and if another process already claimed the version we skip it.
+     */
+    private static boolean apply(Connection conn, int version, String name, String sql, String checksum)
+            throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT OR IGNORE INTO schema_migrations(version, name, checksum) VALUES(?, ?, ?)")) {
+                ps.setInt(1, version);
+                ps.setString(2, name);
+                ps.setString(3, checksum);
+                if (ps.executeUpdate() == 0) {
+                    conn.rollback();
+                    return false;
+                }
+            }
+            try (Statement st = conn.createStatement()) {
+                for (String stmt : splitStatements(sql)) {
+                    st.execute(stmt);
+                }
+            }
+            conn.commit();
+            System.out.println("[DB] applied migration " + name);
+            return true;
+        } catch (SQLException e) {
+            conn.rollback();
+            throw new SQLException("migration " + name + " failed: " + e.getMessage(), e);
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Split a script into statements: drops -- comments and the script's own
+     * BEGIN/COMMIT (the runner owns the transaction); keeps CREATE TRIGGER bodies whole.
+     */
+    static List<String> splitStatements(String script) {
+        List<String> out = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        boolean inString = false;
+        int n = script.length();
+        for (int i = 0; i < n; i++) {
+            char c = script.charAt(i);
+            if (inString) {
+                cur.append(c);
+                if (c == '\'') {
+                    inString = false;
+                }
+            } else if (c == '\'') {
+                inString = true;
+                cur.append(c);
+            } else if (c == '-' && i + 1 < n && script.charAt(i + 1) == '-') {
+                while (i < n && script.charAt(i) != '\n') {
+                    i++;
+                }
+                cur.append('\n');
+            } else if (c == ';') {
+                String stmt = cur.toString().trim();
+                String upper = stmt.toUpperCase(Locale.ROOT);
+                if (upper.startsWith("CREATE TRIGGER") && !TRIGGER_END.matcher(upper).find()) {
+                    cur.append(c); // ';' inside the trigger body
+                    continue;
+                }
+                addStatement(out, stmt);
+                cur.setLength(0);
+            } else {
+                cur.append(c);
+            }
+        }
+        addStatement(out, cur.toString().trim());
+        return out;
+    }
+
+    private static void addStatement(List<String> out, String stmt) {
+        if (stmt.isEmpty()) {
+            return;
+        }
+        String upper = stmt.toUpperCase(Locale.ROOT).replaceAll("\\s+", " ");
+        if (upper.equals("BEGIN") || upper.startsWith("BEGIN TRANSACTION") || upper.startsWith("BEGIN IMMEDIATE")
+                || upper.equals("COMMIT") || upper.equals("END") || upper.equals("END TRANSACTION")) {
+            return;
+        }
+        out.add(stmt);
+    }
+
+    private static String sha256(String s) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package main.grading;
+
+import main.model.GradedSubmission;
+import main.model.Result;
+import main.model.Submission;
+import main.question.Question;
+import main.strategy.ScoringStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Grades whole submissions without the GUI: one checkAnswer + one calculateScore per question,
+ * the same rules as a quiz played in QuizAppGUI.
+ * - Wrong, unanswered (null) and unknown questions score 0
+ * - Times count in whole seconds (timeMs / 1000) for points and duration, like the GUI
+ * - Duration is the time of the submitted answers only: unanswered / timed-out questions
+ *   (null answer) add nothing, the same as the GUI's time-up path
+ * - Stateless apart from its lookup and strategy, so one Grader can be shared by many threads
+ *   as long as both of those are thread-safe (all strategies and question types here are)
+ *
+ * Questions are resolved by id through the given lookup, e.g. a QuestionBank position
+ * (bank::get) or a QuestionRepository id (repo::findById).
+ */
+public class Grader {
+    private final IntFunction<Question> questions;
+    private final ScoringStrategy strategy;
+    private final String strategyName;
+
+    public Grader(IntFunction<Question> questions, ScoringStrategy strategy) {
+        this.questions = questions;
+        this.strategy = strategy;
+        this.strategyName = strategy.getStrategyName();
+    }
+
+    public GradedSubmission grade(Submission s) {
+        int n = s.size();
+        boolean[] correct = new boolean[n];
+        int[] points = new int[n];
+        int totalScore = 0;
+        int correctCount = 0;
+        long durationSec = 0;
+
+        for (int i = 0; i < n; i++) {
+            String answer = s.getAnswer(i);
+            if (answer == null) {
+                continue;
+            }
+            long timeSec = s.getTimeMs(i) / 1000;
+            durationSec += timeSec;
+            Question q = questions.apply(s.getQuestionId(i));
+            if (q == null || !q.checkAnswer(answer)) {
+                continue;
+            }
+            correct[i] = true;
+            points[i] = strategy.calculateScore(q.getDifficulty(), timeSec);
+            totalScore += points[i];
+            correctCount++;
+        }
+
+        Result result = new Result(s.getPlayerName(), strategyName, totalScore, n, correctCount, durationSec);
+        return new GradedSubmission(s, result, correct, points);
+    }
+
+    /**
+     * Grade a batch on the calling thread, in order.
+     */
+    public List<GradedSubmission> gradeAll(List<Submission> submissions) {
+        List<GradedSubmission> graded = new ArrayList<>(submissions.size());
+        for (Submission s : submissions) {
+            graded.add(grade(s));
+        }
+        return graded;
+    }
+}
@@ -0,0 +1,122 @@
+package main.grading;
+
+import main.model.GradedSubmission;
+import main.model.Submission;
+import main.question.BasicQuestion;
+import main.question.Difficulty;
+import main.question.MultipleChoiceQuestion;
+import main.question.Question;
+import main.strategy.SpeedScoreStrategy;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Grades the same synthetic exam batch with {@link ParallelGrader} at several thread counts
+ * and prints submissions per second and the speedup over one thread.
+ * - 1000 questions (half multiple choice, half text with Vietnamese answers), 10 per submission
+ * - Each thread count gets an untimed warm-up, then the best of 3 runs is reported
+ * - The total score of every run is compared with the single-threaded one
+ *
+ * Speedup is bounded by the CPUs the JVM sees (printed first).
+ *
+ * Command line: java -cp bin main.grading.GradingBenchmark [submissions] [threads ...]
+ */
+public class GradingBenchmark {
+    private static final int QUESTIONS = 1000;
+    private static final int PER_SUBMISSION = 10;
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    private static final String[] WORDS = {"Hà Nội", "Đà Nẵng", "Huế", "Singleton", "Decorator", "Strategy"};
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int[] threads = args.length > 1 ? new int[args.length - 1] : new int[] {1, 2, 4, 8};
+        for (int i = 1; i < args.length; i++) {
+            threads[i - 1] = Integer.parseInt(args[i]);
+        }
+
+        List<Question> questions = buildQuestions();
+        List<Submission> batch = buildSubmissions(questions, count);
+        Grader grader = new Grader(questions::get, new SpeedScoreStrategy());
+        long expected = totalScore(grader.gradeAll(batch));
+
+        System.out.println("CPUs: " + Runtime.getRuntime().availableProcessors() + ", submissions: " + count);
+        double base = 0;
+        for (int t : threads) {
+            try (ParallelGrader parallel = new ParallelGrader(grader, t)) {
+                parallel.gradeAll(batch); // warm-up
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < 3; run++) {
+                    long start = System.nanoTime();
+                    List<GradedSubmission> graded = parallel.gradeAll(batch);
+                    best = Math.min(best, System.nanoTime() - start);
+                    if (totalScore(graded) != expected) {
+                        throw new IllegalStateException("parallel result differs at " + t + " threads");
+                    }
+                }
+                double perSecond = count * 1e9 / best;
+                if (base == 0) {
+                    base = perSecond;
+                }
+                System.out.printf("  %2d threads %12.0f submissions/s  x%.2f%n", t, perSecond, perSecond / base);
+            }
+        }
+    }
+
+    private static long totalScore(List<GradedSubmission> graded) {
+        long total = 0;
+        for (GradedSubmission g : graded) {
+            total += g.getResult().getScore();
+        }
+        return total;
+    }
+
+    private static List<Question> buildQuestions() {
+        List<Question> list = new ArrayList<>(QUESTIONS);
+        for (int i = 0; i < QUESTIONS; i++) {
+            Difficulty difficulty = DIFFICULTIES[i % DIFFICULTIES.length];
+            String answer = WORDS[i % WORDS.length] + " " + i;
+            if (i % 2 == 0) {
+                String[] options = {answer, "Option B " + i, "Option C " + i, "Option D " + i};
+                list.add(new MultipleChoiceQuestion("Question " + i, answer, options, difficulty));
+            } else {
+                list.add(new BasicQuestion("Question " + i, answer, difficulty));
+            }
+        }
+        return list;
+    }
+
+    /** Answers: 1/4 unanswered, 1/4 wrong, the rest right (letters or text without diacritics). */
+    private static List<Submission> buildSubmissions(List<Question> questions, int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Submission> list = new ArrayList<>(count);
+        for (int s = 0; s < count; s++) {
+            int[] ids = new int[PER_SUBMISSION];
+            String[] answers = new String[PER_SUBMISSION];
+            long[] times = new long[PER_SUBMISSION];
+            for (int i = 0; i < PER_SUBMISSION; i++) {
+                int id = random.nextInt(QUESTIONS);
+                ids[i] = id;
+                times[i] = random.nextInt(30_000);
+                int kind = random.nextInt(4);
+                if (kind == 0) {
+                    continue;
+                }
+                if (kind == 1) {
+                    answers[i] = id % 2 == 0 ? "B" : "something else";
+                } else {
+                    answers[i] = id % 2 == 0 ? "A" : stripMarks(questions.get(id).getCorrectAnswer());
+                }
+            }
+            list.add(new Submission("student-" + s, ids, answers, times));
+        }
+        return list;
+    }
+
+    private static String stripMarks(String s) {
+        return Normalizer.normalize(s, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "").replace('đ', 'd').replace('Đ', 'D').toLowerCase();
+    }
+}
@@ -0,0 +1,99 @@
+package main.grading;
+
+import main.model.GradedSubmission;
+import main.model.Submission;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Grades a batch of submissions on a ForkJoinPool.
+ * - The batch is split in halves until a slice has at most sliceSize submissions;
+ *   each slice is graded by one worker with the shared {@link Grader}
+ * - Results are written straight into their slot of one array, so merging is free and the
+ *   output keeps the input order
+ * - Idle workers steal pending halves, so uneven submissions still spread over all threads
+ *
+ * Settings (JVM system properties):
+ * - quiz.grading.threads   worker threads (default: number of CPUs)
+ * - quiz.grading.sliceSize submissions graded per task (default 256)
+ */
+public class ParallelGrader implements AutoCloseable {
+    private final Grader grader;
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final int sliceSize;
+
+    /** Own pool sized by quiz.grading.threads. */
+    public ParallelGrader(Grader grader) {
+        this(grader, Integer.getInteger("quiz.grading.threads", Runtime.getRuntime().availableProcessors()));
+    }
+
+    /** Own pool with the given number of threads. */
+    public ParallelGrader(Grader grader, int threads) {
+        this(grader, new ForkJoinPool(Math.max(1, threads)), true);
+    }
+
+    /** Caller's pool (e.g. ForkJoinPool.commonPool()); close() leaves it running. */
+    public ParallelGrader(Grader grader, ForkJoinPool pool) {
+        this(grader, pool, false);
+    }
+
+    private ParallelGrader(Grader grader, ForkJoinPool pool, boolean ownsPool) {
+        this.grader = grader;
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.sliceSize = Math.max(1, Integer.getInteger("quiz.grading.sliceSize", 256));
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Grade all submissions; the result list is in input order.
+     */
+    public List<GradedSubmission> gradeAll(List<Submission> submissions) {
+        Submission[] in = submissions.toArray(new Submission[0]);
+        GradedSubmission[] out = new GradedSubmission[in.length];
+        pool.invoke(new Slice(in, out, 0, in.length));
+        return Arrays.asList(out);
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    private final class Slice extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Submission[] in;
+        private final GradedSubmission[] out;
+        private final int from;
+        private final int to;
+
+        Slice(Submission[] in, GradedSubmission[] out, int from, int to) {
+            this.in = in;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sliceSize) {
+                for (int i = from; i < to; i++) {
+                    out[i] = grader.grade(in[i]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Slice(in, out, from, mid), new Slice(in, out, mid, to));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package main.manager;
 
+import main.question.Difficulty;
 import main.question.Question;
 import main.strategy.ScoringStrategy;
 import main.strategy.FixedScoreStrategy;
@@ -65,7 +66,7 @@ public class QuizManager {
     /**
      * STRATEGY PATTERN: Tính điểm dựa trên strategy hiện tại
      */
-    public int calculateScore(String difficulty, long timeTaken) {
+    public int calculateScore(Difficulty difficulty, long timeTaken) {
         return scoringStrategy.calculateScore(difficulty, timeTaken);
     }
     
@@ -0,0 +1,42 @@
+package main.model;
+
+import main.question.Difficulty;
+
+public class AnswerEvent {
+    private String attemptId;
+    private String playerName;
+    private int questionNo;
+    private String questionKey;
+    private Difficulty difficulty;
+    private String answer; // null when the time ran out
+    private boolean correct;
+    private long timeMs;
+    private int points;
+    private String answeredAt; // UTC "yyyy-MM-dd HH:mm:ss"; set when the event is recorded
+
+    public AnswerEvent(String attemptId, String playerName, int questionNo, String questionKey,
+                       Difficulty difficulty, String answer, boolean correct, long timeMs, int points) {
+        this.attemptId = attemptId;
+        this.playerName = playerName;
+        this.questionNo = questionNo;
+        this.questionKey = questionKey;
+        this.difficulty = difficulty;
+        this.answer = answer;
+        this.correct = correct;
+        this.timeMs = timeMs;
+        this.points = points;
+    }
+
+    public String getAttemptId() { return attemptId; }
+    public String getPlayerName() { return playerName; }
+    public int getQuestionNo() { return questionNo; }
+    public String getQuestionKey() { return questionKey; }
+    public Difficulty getDifficulty() { return difficulty; }
+    public String getAnswer() { return answer; }
+    public boolean isCorrect() { return correct; }
+    public long getTimeMs() { return timeMs; }
+    public int getPoints() { return points; }
+    public String getAnsweredAt() { return answeredAt; }
+
+    public void setAnsweredAt(String answeredAt) { this.answeredAt = answeredAt; }
+}
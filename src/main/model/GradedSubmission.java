@@ -0,0 +1,21 @@
+package main.model;
+
+public class GradedSubmission {
+    private Submission submission;
+    private Result result;      // totals; played_at is set when the result is saved
+    private boolean[] correct;  // per question, in submission order
+    private int[] points;       // per question, 0 when wrong
+
+    public GradedSubmission(Submission submission, Result result, boolean[] correct, int[] points) {
+        this.submission = submission;
+        this.result = result;
+        this.correct = correct;
+        this.points = points;
+    }
+
+    public Submission getSubmission() { return submission; }
+    public Result getResult() { return result; }
+    public int size() { return correct.length; }
+    public boolean isCorrect(int i) { return correct[i]; }
+    public int getPoints(int i) { return points[i]; }
+}
@@ -0,0 +1,24 @@
+package main.model;
+
+public class PlayerStats {
+    private String playerName;
+    private int attempts;
+    private int bestScore;
+    private double averageScore;
+    private String lastPlayedAt; // null when the player has no attempts
+
+    public PlayerStats(String playerName, int attempts, int bestScore,
+                       double averageScore, String lastPlayedAt) {
+        this.playerName = playerName;
+        this.attempts = attempts;
+        this.bestScore = bestScore;
+        this.averageScore = averageScore;
+        this.lastPlayedAt = lastPlayedAt;
+    }
+
+    public String getPlayerName() { return playerName; }
+    public int getAttempts() { return attempts; }
+    public int getBestScore() { return bestScore; }
+    public double getAverageScore() { return averageScore; }
+    public String getLastPlayedAt() { return lastPlayedAt; }
+}
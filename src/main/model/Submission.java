@@ -0,0 +1,24 @@
+package main.model;
+
+public class Submission {
+    private String playerName;
+    private int[] questionIds;  // ids understood by the grader's question lookup
+    private String[] answers;   // null entry = not answered (time ran out)
+    private long[] timesMs;     // time spent on each question
+
+    public Submission(String playerName, int[] questionIds, String[] answers, long[] timesMs) {
+        if (answers.length != questionIds.length || timesMs.length != questionIds.length) {
+            throw new IllegalArgumentException("questionIds, answers and timesMs must have the same length");
+        }
+        this.playerName = playerName;
+        this.questionIds = questionIds;
+        this.answers = answers;
+        this.timesMs = timesMs;
+    }
+
+    public String getPlayerName() { return playerName; }
+    public int size() { return questionIds.length; }
+    public int getQuestionId(int i) { return questionIds[i]; }
+    public String getAnswer(int i) { return answers[i]; }
+    public long getTimeMs(int i) { return timesMs[i]; }
+}
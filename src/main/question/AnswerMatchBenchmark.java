@@ -0,0 +1,79 @@
+package main.question;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Compares the old checkAnswer path (trim / toUpperCase / equalsIgnoreCase per call) with
+ * {@link AnswerMatcher} (exact and fuzzy, 1 edit per 5 chars): nanoseconds and bytes allocated per check.
+ * - Each path runs an untimed warm-up first, so JIT compilation is not measured
+ * - Bytes per check need a HotSpot JVM (com.sun.management.ThreadMXBean); otherwise "n/a"
+ *
+ * Command line: java -cp bin main.question.AnswerMatchBenchmark [iterations]
+ */
+public class AnswerMatchBenchmark {
+    private static final String[] EXPECTED = {"Hà Nội", "Paris", "Object Oriented Programming", "42"};
+    private static final String[] CANDIDATES = {
+        "  hà nội ", "ha noi", "HA  NOI", "Ha Noi Capital", "paris", " PARIS", "object oriented programming",
+        "Object-Oriented Programming", "42", " 41 ", "Objetc Oriented Programing", "Ha Nooi"
+    };
+
+    private static volatile int sink;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        String[] normalized = new String[EXPECTED.length];
+        for (int i = 0; i < EXPECTED.length; i++) {
+            normalized[i] = AnswerMatcher.normalize(EXPECTED[i]);
+        }
+
+        Check legacy = i -> {
+            String expected = EXPECTED[i % EXPECTED.length];
+            String answer = CANDIDATES[i % CANDIDATES.length];
+            return expected.trim().equalsIgnoreCase(answer.trim().toUpperCase());
+        };
+        Check folded = i -> AnswerMatcher.matches(normalized[i % normalized.length], CANDIDATES[i % CANDIDATES.length]);
+        Check fuzzy = i -> {
+            String expected = normalized[i % normalized.length];
+            return AnswerMatcher.withinEdits(expected, CANDIDATES[i % CANDIDATES.length], Math.min(3, expected.length() / 5));
+        };
+
+        run("legacy", legacy, iterations / 10, true);
+        run("folded", folded, iterations / 10, true);
+        run("fuzzy", fuzzy, iterations / 10, true);
+        run("legacy", legacy, iterations, false);
+        run("folded", folded, iterations, false);
+        run("fuzzy", fuzzy, iterations, false);
+    }
+
+    private static void run(String name, Check check, int n, boolean quiet) {
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < n; i++) {
+            if (check.matches(i)) {
+                hits++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = allocatedBytes() - bytesBefore;
+        sink = hits;
+        if (quiet) {
+            return;
+        }
+        System.out.printf("  %-8s %8.1f ns/check  %10s bytes/check  (%d matches)%n", name, elapsed / (double) n,
+                bytesBefore < 0 ? "n/a" : String.format("%.1f", bytes / (double) n), hits);
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private interface Check {
+        boolean matches(int i);
+    }
+}
@@ -0,0 +1,260 @@
+package main.question;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * Answer comparison shared by the question types.
+ * - The correct answer is folded once (normalize): diacritics removed, đ -> d, lower case,
+ *   whitespace trimmed and collapsed to single spaces
+ * - A candidate is folded char by char while it is compared (matches), so checking an answer
+ *   builds no strings; "Hà  Nội ", "ha noi" and "HA NOI" all match "Hà Nội"
+ * - Optional fuzzy mode (withinEdits) accepts typos: insert, delete, substitute or swap two
+ *   neighbouring letters, up to allowedEdits(length) edits
+ *
+ * Settings (JVM system properties):
+ * - quiz.answers.fuzzy        accept typos in text answers (default false)
+ * - quiz.answers.fuzzyPercent edits allowed per 100 chars of the answer, at most 3 (default 20)
+ */
+final class AnswerMatcher {
+    static final boolean FUZZY = Boolean.getBoolean("quiz.answers.fuzzy");
+    private static final int FUZZY_PERCENT = Integer.getInteger("quiz.answers.fuzzyPercent", 20);
+    private static final int MAX_EDITS = 3;
+
+    // Folded form of every char below FOLD_LIMIT (Latin, Latin Extended, combining marks and the
+    // Vietnamese block U+1E00..U+1EFF); 0 = dropped (combining mark)
+    private static final int FOLD_LIMIT = 0x1F00;
+    private static final char[] FOLD = new char[FOLD_LIMIT];
+
+    static {
+        for (int c = 0; c < FOLD_LIMIT; c++) {
+            FOLD[c] = foldSlow((char) c);
+        }
+    }
+
+    private AnswerMatcher() {
+    }
+
+    private static char foldSlow(char c) {
+        if (Character.getType(c) == Character.NON_SPACING_MARK) {
+            return 0;
+        }
+        if (c == 'đ' || c == 'Đ') {
+            return 'd'; // no canonical decomposition
+        }
+        String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+        return Character.toLowerCase(decomposed.charAt(0));
+    }
+
+    static char fold(char c) {
+        if (c < FOLD_LIMIT) {
+            return FOLD[c];
+        }
+        return Character.getType(c) == Character.NON_SPACING_MARK ? 0 : Character.toLowerCase(c);
+    }
+
+    /**
+     * Folded form used as the expected side of {@link #matches}. Null stays null.
+     */
+    static String normalize(String s) {
+        if (s == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < s.length(); i++) {
+            char f = fold(s.charAt(i));
+            if (f == 0) {
+                continue;
+            }
+            if (Character.isWhitespace(f)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.append(f);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * True if candidate folds to exactly the normalized string, without allocating.
+     */
+    static boolean matches(String normalized, CharSequence candidate) {
+        if (normalized == null || candidate == null) {
+            return false;
+        }
+        int n = normalized.length();
+        int pos = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < candidate.length(); i++) {
+            char f = fold(candidate.charAt(i));
+            if (f == 0) {
+                continue;
+            }
+            if (Character.isWhitespace(f)) {
+                pendingSpace = pos > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                if (pos >= n || normalized.charAt(pos) != ' ') {
+                    return false;
+                }
+                pos++;
+                pendingSpace = false;
+            }
+            if (pos >= n || normalized.charAt(pos) != f) {
+                return false;
+            }
+            pos++;
+        }
+        return pos == n;
+    }
+
+    /**
+     * Option index (0 = A) if candidate is a single letter A..Z, ignoring case and surrounding
+     * whitespace; -1 otherwise.
+     */
+    static int optionLetter(CharSequence candidate) {
+        int letter = -1;
+        for (int i = 0; i < candidate.length(); i++) {
+            char c = candidate.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (letter >= 0) {
+                return -1;
+            }
+            char upper = Character.toUpperCase(c);
+            if (upper < 'A' || upper > 'Z') {
+                return -1;
+            }
+            letter = upper - 'A';
+        }
+        return letter;
+    }
+
+    /**
+     * Typos tolerated for a normalized answer: 0 when fuzzy mode is off or the answer contains
+     * a digit (numbers must be exact), otherwise length * quiz.answers.fuzzyPercent / 100, at most 3.
+     */
+    static int allowedEdits(String normalized) {
+        if (!FUZZY || normalized == null) {
+            return 0;
+        }
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isDigit(normalized.charAt(i))) {
+                return 0;
+            }
+        }
+        return Math.min(MAX_EDITS, normalized.length() * Math.max(0, FUZZY_PERCENT) / 100);
+    }
+
+    /**
+     * True if candidate folds to a string at most maxEdits edits away from normalized
+     * (optimal string alignment: insert, delete, substitute, swap adjacent). Only the diagonal
+     * band of width 2 * maxEdits + 1 is computed, and the scan stops as soon as every cell of a
+     * row is over the limit. Reuses per-thread buffers, so it allocates nothing once warm.
+     */
+    static boolean withinEdits(String normalized, CharSequence candidate, int maxEdits) {
+        if (maxEdits <= 0) {
+            return matches(normalized, candidate);
+        }
+        if (normalized == null || candidate == null) {
+            return false;
+        }
+        Buffers buf = BUFFERS.get();
+        int m = buf.fold(candidate, normalized.length() + maxEdits);
+        int n = normalized.length();
+        if (m < 0 || Math.abs(n - m) > maxEdits) {
+            return false;
+        }
+        char[] b = buf.chars;
+        int over = maxEdits + 1;
+        int[] prev2 = buf.row(0, m);
+        int[] prev = buf.row(1, m);
+        int[] cur = buf.row(2, m);
+
+        for (int j = 0; j <= Math.min(m, maxEdits); j++) {
+            prev[j] = j;
+        }
+        if (maxEdits + 1 <= m) {
+            prev[maxEdits + 1] = over;
+        }
+        for (int i = 1; i <= n; i++) {
+            char ai = normalized.charAt(i - 1);
+            int lo = Math.max(1, i - maxEdits);
+            int hi = Math.min(m, i + maxEdits);
+            cur[0] = i <= maxEdits ? i : over;
+            cur[lo - 1] = lo == 1 ? cur[0] : over;
+            int rowMin = lo == 1 ? cur[0] : over;
+            for (int j = lo; j <= hi; j++) {
+                int v = prev[j - 1] + (ai == b[j - 1] ? 0 : 1);
+                v = Math.min(v, prev[j] + 1);
+                v = Math.min(v, cur[j - 1] + 1);
+                if (i > 1 && j > 1 && ai == b[j - 2] && normalized.charAt(i - 2) == b[j - 1]) {
+                    v = Math.min(v, prev2[j - 2] + 1);
+                }
+                cur[j] = Math.min(v, over);
+                rowMin = Math.min(rowMin, cur[j]);
+            }
+            if (hi + 1 <= m) {
+                cur[hi + 1] = over;
+            }
+            if (rowMin > maxEdits) {
+                return false; // every path already needs more edits
+            }
+            int[] t = prev2;
+            prev2 = prev;
+            prev = cur;
+            cur = t;
+        }
+        return prev[m] <= maxEdits;
+    }
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    /** Folded candidate and three DP rows, reused by one thread. */
+    private static final class Buffers {
+        char[] chars = new char[64];
+        private final int[][] rows = {new int[65], new int[65], new int[65]};
+
+        /** Fold candidate into chars like normalize(); -1 if it is longer than limit. */
+        int fold(CharSequence candidate, int limit) {
+            int len = 0;
+            boolean pendingSpace = false;
+            for (int i = 0; i < candidate.length(); i++) {
+                char f = AnswerMatcher.fold(candidate.charAt(i));
+                if (f == 0) {
+                    continue;
+                }
+                if (Character.isWhitespace(f)) {
+                    pendingSpace = len > 0;
+                    continue;
+                }
+                if (len + (pendingSpace ? 2 : 1) > limit) {
+                    return -1;
+                }
+                if (len + 2 > chars.length) {
+                    chars = Arrays.copyOf(chars, chars.length * 2);
+                }
+                if (pendingSpace) {
+                    chars[len++] = ' ';
+                    pendingSpace = false;
+                }
+                chars[len++] = f;
+            }
+            return len;
+        }
+
+        int[] row(int k, int m) {
+            if (rows[k].length < m + 1) {
+                rows[k] = new int[Math.max(m + 1, rows[k].length * 2)];
+            }
+            return rows[k];
+        }
+    }
+}
@@ -7,26 +7,36 @@ package main.question;
  * Đây là component gốc mà các decorator sẽ bọc lấy
  */
 public class BasicQuestion implements Question {
-    private String questionText;
-    private String correctAnswer;
-    private String difficulty; // easy, medium, hard
+    private final String questionText;
+    private final String correctAnswer;
+    private final Difficulty difficulty;
+    private final String normalizedAnswer; // đáp án đã chuẩn hóa một lần (AnswerMatcher)
+    private final int allowedEdits;        // số lỗi gõ được chấp nhận (0 = phải khớp chính xác)
+    private final QuestionInfo info;
     
-    public BasicQuestion(String questionText, String correctAnswer, String difficulty) {
+    public BasicQuestion(String questionText, String correctAnswer, Difficulty difficulty) {
         this.questionText = questionText;
         this.correctAnswer = correctAnswer;
         this.difficulty = difficulty;
+        this.normalizedAnswer = AnswerMatcher.normalize(correctAnswer);
+        this.allowedEdits = AnswerMatcher.allowedEdits(normalizedAnswer);
+        this.info = QuestionInfo.textInput(questionText, difficulty);
     }
     
     @Override
     public void display() {
         System.out.println("TEXT INPUT: " + questionText);
-        System.out.println("Do kho: " + getDifficultyLabel());
+        System.out.println("Do kho: " + difficulty.label());
     }
     
     @Override
     public boolean checkAnswer(String answer) {
-        // So sánh không phân biệt hoa thường và loại bỏ khoảng trắng thừa
-        return correctAnswer.trim().equalsIgnoreCase(answer.trim());
+        // So sánh không phân biệt hoa thường, dấu tiếng Việt và khoảng trắng thừa
+        if (AnswerMatcher.matches(normalizedAnswer, answer)) {
+            return true;
+        }
+        // Chế độ fuzzy (-Dquiz.answers.fuzzy=true): chấp nhận vài lỗi gõ như "Singelton"
+        return allowedEdits > 0 && AnswerMatcher.withinEdits(normalizedAnswer, answer, allowedEdits);
     }
     
     @Override
@@ -35,24 +45,16 @@ public class BasicQuestion implements Question {
     }
     
     @Override
-    public String getDifficulty() {
+    public Difficulty getDifficulty() {
         return difficulty;
     }
     
-    public String getQuestionText() {
-        return questionText;
+    @Override
+    public QuestionInfo getInfo() {
+        return info;
     }
     
-    private String getDifficultyLabel() {
-        switch (difficulty.toLowerCase()) {
-            case "easy":
-                return "De";
-            case "medium":
-                return "Trung binh";
-            case "hard":
-                return "Kho";
-            default:
-                return difficulty;
-        }
+    public String getQuestionText() {
+        return questionText;
     }
 }
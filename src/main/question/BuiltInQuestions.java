@@ -0,0 +1,76 @@
+package main.question;
+
+import main.Language;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The 10 built-in questions (texts in {@link Language}), built once per language and shared.
+ * - Questions are immutable, so every quiz session can use the same instances (flyweight);
+ *   order, answers and timing of a session are kept by the session, not in the questions
+ * - The first call for a language builds its list; later calls return it without allocating
+ */
+public final class BuiltInQuestions {
+    public static final int COUNT = 10;
+    private static final int TIME_LIMIT_SEC = 30; // timer on ALL questions
+
+    // Multiple Choice Questions (5 total): text, answer, options, difficulty - no hint
+    private static final String[][] MC_KEYS = {
+        {"Q1_MC", "Q1_A", "Q1_B|Q1_C|Q1_A|Q1_D", "easy"},
+        {"Q2_MC", "Q2_A", "Q2_B|Q2_C|Q2_A|Q2_D", "easy"},
+        {"Q3_MC", "Q3_A", "Q3_B|Q3_A|Q3_C|Q3_D", "medium"},
+        {"Q4_MC", "Q4_A", "Q4_B|Q4_A|Q4_C|Q4_D", "medium"},
+        {"Q5_MC", "Q5_A", "Q5_B|Q5_C|Q5_A|Q5_D", "hard"}
+    };
+
+    // Text Input Questions (5 total): text, answer, difficulty, hint (always)
+    private static final String[][] TEXT_KEYS = {
+        {"Q6_TEXT", "Q6_ANSWER", "easy", "Q6_HINT"},
+        {"Q7_TEXT", "Q7_ANSWER", "medium", "Q7_HINT"},
+        {"Q8_TEXT", "Q8_ANSWER", "medium", "Q8_HINT"},
+        {"Q9_TEXT", "Q9_ANSWER", "easy", "Q9_HINT"},
+        {"Q10_TEXT", "Q10_ANSWER", "hard", "Q10_HINT"}
+    };
+
+    private static final Map<String, List<Question>> BY_LANGUAGE = new ConcurrentHashMap<>();
+
+    private BuiltInQuestions() {
+    }
+
+    /**
+     * The questions in quiz order for a language (EN / VI); shared, unmodifiable.
+     */
+    public static List<Question> forLanguage(String lang) {
+        return BY_LANGUAGE.computeIfAbsent(lang, BuiltInQuestions::build);
+    }
+
+    /** Language key of the question at a position (stored with answer events). */
+    public static String key(int position) {
+        return position < MC_KEYS.length ? MC_KEYS[position][0] : TEXT_KEYS[position - MC_KEYS.length][0];
+    }
+
+    private static List<Question> build(String lang) {
+        List<Question> list = new ArrayList<>(COUNT);
+        for (String[] keys : MC_KEYS) {
+            String[] optionKeys = keys[2].split("\\|");
+            String[] options = new String[optionKeys.length];
+            for (int j = 0; j < optionKeys.length; j++) {
+                options[j] = Language.get(optionKeys[j], lang);
+            }
+            Question question = new MultipleChoiceQuestion(Language.get(keys[0], lang), Language.get(keys[1], lang),
+                    options, Difficulty.fromCode(keys[3]));
+            list.add(new TimedQuestion(question, TIME_LIMIT_SEC));
+        }
+        for (String[] keys : TEXT_KEYS) {
+            Question question = new BasicQuestion(Language.get(keys[0], lang), Language.get(keys[1], lang),
+                    Difficulty.fromCode(keys[2]));
+            question = new HintQuestion(question, Language.get(keys[3], lang));
+            list.add(new TimedQuestion(question, TIME_LIMIT_SEC));
+        }
+        return Collections.unmodifiableList(list);
+    }
+}
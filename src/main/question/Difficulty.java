@@ -0,0 +1,49 @@
+package main.question;
+
+/**
+ * Difficulty of a question.
+ * - Stored as its lower-case code (easy, medium, hard) in the questions and answers tables
+ *   and in bank files; Database/scripts/007_difficulty_codes.sql keeps the columns to these codes
+ * - Scoring strategies index precomputed tables by ordinal(), so scoring does no string work
+ */
+public enum Difficulty {
+    EASY("easy", "De"),
+    MEDIUM("medium", "Trung binh"),
+    HARD("hard", "Kho");
+
+    private static final Difficulty[] VALUES = values();
+
+    private final String code;
+    private final String label;
+
+    Difficulty(String code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    /** Lower-case code as stored in the database (easy, medium, hard). */
+    public String code() {
+        return code;
+    }
+
+    /** Label printed by the console display(). */
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Difficulty of a stored code, ignoring case and surrounding spaces.
+     * Null and unknown codes count as MEDIUM, the default scoring always used for them.
+     */
+    public static Difficulty fromCode(String code) {
+        if (code != null) {
+            String trimmed = code.trim();
+            for (Difficulty d : VALUES) {
+                if (d.code.equalsIgnoreCase(trimmed)) {
+                    return d;
+                }
+            }
+        }
+        return MEDIUM;
+    }
+}
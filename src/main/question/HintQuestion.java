@@ -7,11 +7,13 @@ package main.question;
  * Khi display(), hiển thị cả câu hỏi gốc và gợi ý
  */
 public class HintQuestion extends QuestionDecorator {
-    private String hint;
+    private final String hint;
+    private final QuestionInfo info;
     
     public HintQuestion(Question question, String hint) {
         super(question);
         this.hint = hint;
+        this.info = question.getInfo().withHint(hint);
     }
     
     /**
@@ -27,6 +29,11 @@ public class HintQuestion extends QuestionDecorator {
         System.out.println("[GOI Y] " + hint);
     }
     
+    @Override
+    public QuestionInfo getInfo() {
+        return info;
+    }
+    
     public String getHint() {
         return hint;
     }
@@ -7,22 +7,40 @@ package main.question;
  * Có 4 đáp án để chọn
  */
 public class MultipleChoiceQuestion implements Question {
-    private String questionText;
-    private String correctAnswer;
-    private String[] options; // 4 đáp án
-    private String difficulty;
+    private final String questionText;
+    private final String correctAnswer;
+    private final String[] options; // 4 đáp án (bản sao riêng, không đổi sau khi tạo)
+    private final Difficulty difficulty;
+    private final String normalizedAnswer; // đáp án đã chuẩn hóa một lần (AnswerMatcher)
+    private final boolean[] optionCorrect;  // optionCorrect[i]: chọn đáp án thứ i là đúng
+    private final boolean foldAmbiguous;    // có đáp án sai trùng đáp án đúng khi bỏ dấu (vd "cá" / "cà")
+    private final QuestionInfo info;
     
-    public MultipleChoiceQuestion(String questionText, String correctAnswer, String[] options, String difficulty) {
+    public MultipleChoiceQuestion(String questionText, String correctAnswer, String[] options, Difficulty difficulty) {
         this.questionText = questionText;
         this.correctAnswer = correctAnswer;
-        this.options = options;
+        this.options = options.clone();
         this.difficulty = difficulty;
+        this.normalizedAnswer = AnswerMatcher.normalize(correctAnswer);
+        this.optionCorrect = new boolean[options.length];
+        for (int i = 0; i < options.length; i++) {
+            // So sánh chính xác (giữ dấu): các đáp án có thể chỉ khác nhau ở dấu
+            optionCorrect[i] = options[i].trim().equalsIgnoreCase(correctAnswer.trim());
+        }
+        boolean ambiguous = false;
+        for (int i = 0; i < options.length; i++) {
+            if (!optionCorrect[i] && AnswerMatcher.normalize(options[i]).equals(normalizedAnswer)) {
+                ambiguous = true;
+            }
+        }
+        this.foldAmbiguous = ambiguous;
+        this.info = QuestionInfo.multipleChoice(questionText, options, difficulty);
     }
     
     @Override
     public void display() {
         System.out.println("MULTIPLE CHOICE: " + questionText);
-        System.out.println("Do kho: " + getDifficultyLabel());
+        System.out.println("Do kho: " + difficulty.label());
         for (int i = 0; i < options.length; i++) {
             System.out.println((char)('A' + i) + ". " + options[i]);
         }
@@ -30,19 +48,29 @@ public class MultipleChoiceQuestion implements Question {
     
     @Override
     public boolean checkAnswer(String answer) {
+        if (answer == null) {
+            return false;
+        }
         // Có thể nhập A, B, C, D hoặc đáp án trực tiếp
-        answer = answer.trim().toUpperCase();
+        int index = AnswerMatcher.optionLetter(answer);
+        if (index >= 0 && index < options.length) {
+            return optionCorrect[index];
+        }
         
-        // Nếu nhập A, B, C, D
-        if (answer.length() == 1 && answer.charAt(0) >= 'A' && answer.charAt(0) <= 'D') {
-            int index = answer.charAt(0) - 'A';
-            if (index < options.length) {
-                return options[index].trim().equalsIgnoreCase(correctAnswer.trim());
+        // Nhập đúng nguyên văn một đáp án (không phân biệt hoa thường): chấm theo đáp án đó
+        String typed = answer.trim();
+        for (int i = 0; i < options.length; i++) {
+            if (options[i].trim().equalsIgnoreCase(typed)) {
+                return optionCorrect[i];
             }
         }
+        // Các đáp án chỉ khác nhau ở dấu: bỏ dấu thì không biết người chơi chọn đáp án nào
+        if (foldAmbiguous) {
+            return false;
+        }
         
-        // Nếu nhập đáp án trực tiếp
-        return correctAnswer.trim().equalsIgnoreCase(answer);
+        // Nếu nhập đáp án trực tiếp (không phân biệt hoa thường, dấu, khoảng trắng thừa)
+        return AnswerMatcher.matches(normalizedAnswer, answer);
     }
     
     @Override
@@ -51,28 +79,20 @@ public class MultipleChoiceQuestion implements Question {
     }
     
     @Override
-    public String getDifficulty() {
+    public Difficulty getDifficulty() {
         return difficulty;
     }
     
+    @Override
+    public QuestionInfo getInfo() {
+        return info;
+    }
+    
     public String[] getOptions() {
-        return options;
+        return options.clone();
     }
     
     public String getQuestionText() {
         return questionText;
     }
-    
-    private String getDifficultyLabel() {
-        switch (difficulty.toLowerCase()) {
-            case "easy":
-                return "De";
-            case "medium":
-                return "Trung binh";
-            case "hard":
-                return "Kho";
-            default:
-                return difficulty;
-        }
-    }
 }
@@ -27,7 +27,13 @@ public interface Question {
     String getCorrectAnswer();
     
     /**
-     * Lấy độ khó của câu hỏi (easy, medium, hard)
+     * Lấy độ khó của câu hỏi (EASY, MEDIUM, HARD)
      */
-    String getDifficulty();
+    Difficulty getDifficulty();
+    
+    /**
+     * Thông tin hiển thị (loại, nội dung, đáp án, gợi ý, thời gian, độ khó) của câu hỏi
+     * cùng mọi decorator, tính sẵn một lần khi tạo
+     */
+    QuestionInfo getInfo();
 }
@@ -0,0 +1,80 @@
+package main.question;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Questions loaded from a bank file, with position indexes per difficulty and per topic.
+ * - Questions are addressed by position (0..size-1); an index is a sorted int[] of positions
+ * - Built once by a loader, read-only afterwards
+ */
+public final class QuestionBank {
+    private static final int[] NONE = new int[0];
+
+    private final List<Question> questions;
+    private final Map<Difficulty, int[]> byDifficulty;
+    private final Map<String, int[]> byTopic;
+
+    public QuestionBank(List<Question> questions, Map<Difficulty, int[]> byDifficulty, Map<String, int[]> byTopic) {
+        this.questions = Collections.unmodifiableList(questions);
+        this.byDifficulty = new EnumMap<>(Difficulty.class);
+        this.byDifficulty.putAll(byDifficulty);
+        this.byTopic = new HashMap<>(byTopic);
+    }
+
+    public int size() {
+        return questions.size();
+    }
+
+    public Question get(int position) {
+        return questions.get(position);
+    }
+
+    public List<Question> getQuestions() {
+        return questions;
+    }
+
+    /** Positions of the questions of one difficulty; a copy. */
+    public int[] indexByDifficulty(Difficulty difficulty) {
+        return copy(byDifficulty.get(difficulty));
+    }
+
+    /** Positions of the questions of one topic; a copy. */
+    public int[] indexByTopic(String topic) {
+        return copy(byTopic.get(topic));
+    }
+
+    /**
+     * k random positions of one difficulty, in O(k) (see {@link QuestionSampler}).
+     */
+    public int[] sampleByDifficulty(Difficulty difficulty, int k, SplittableRandom random) {
+        int[] index = byDifficulty.get(difficulty);
+        return QuestionSampler.sample(index == null ? NONE : index, k, random);
+    }
+
+    /**
+     * k random positions of one topic, in O(k) (see {@link QuestionSampler}).
+     */
+    public int[] sampleByTopic(String topic, int k, SplittableRandom random) {
+        int[] index = byTopic.get(topic);
+        return QuestionSampler.sample(index == null ? NONE : index, k, random);
+    }
+
+    public Set<Difficulty> getDifficulties() {
+        return Collections.unmodifiableSet(byDifficulty.keySet());
+    }
+
+    public Set<String> getTopics() {
+        return Collections.unmodifiableSet(byTopic.keySet());
+    }
+
+    private static int[] copy(int[] index) {
+        return index == null ? NONE : Arrays.copyOf(index, index.length);
+    }
+}
@@ -12,8 +12,8 @@ package main.question;
  * - Tuân theo Open/Closed Principle: mở để mở rộng, đóng để sửa đổi
  */
 public abstract class QuestionDecorator implements Question {
-    // Reference đến Question được decorate
-    public Question decoratedQuestion;
+    // Reference đến Question được decorate (chỉ decorator truy cập; bên ngoài đọc getInfo())
+    protected final Question decoratedQuestion;
     
     public QuestionDecorator(Question question) {
         this.decoratedQuestion = question;
@@ -31,7 +31,7 @@ public abstract class QuestionDecorator implements Question {
     }
     
     @Override
-    public String getDifficulty() {
+    public Difficulty getDifficulty() {
         return decoratedQuestion.getDifficulty();
     }
     
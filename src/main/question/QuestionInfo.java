@@ -0,0 +1,80 @@
+package main.question;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Flat, immutable view of a question and all its decorators: type, text, options, hint,
+ * time limit and difficulty.
+ * - Built once when the question (or decorator) is constructed; {@link Question#getInfo()} is O(1)
+ * - Each decorator copies the info of the question it wraps and sets its own field,
+ *   so readers never walk the decorator chain
+ */
+public final class QuestionInfo {
+    public enum Type { MULTIPLE_CHOICE, TEXT_INPUT }
+
+    private final Type type;
+    private final String text;
+    private final List<String> options;
+    private final String hint;
+    private final int timeLimit;
+    private final Difficulty difficulty;
+
+    private QuestionInfo(Type type, String text, List<String> options, String hint, int timeLimit, Difficulty difficulty) {
+        this.type = type;
+        this.text = text;
+        this.options = options;
+        this.hint = hint;
+        this.timeLimit = timeLimit;
+        this.difficulty = difficulty;
+    }
+
+    static QuestionInfo textInput(String text, Difficulty difficulty) {
+        return new QuestionInfo(Type.TEXT_INPUT, text, Collections.<String>emptyList(), null, 0, difficulty);
+    }
+
+    static QuestionInfo multipleChoice(String text, String[] options, Difficulty difficulty) {
+        List<String> copy = Collections.unmodifiableList(Arrays.asList(options.clone()));
+        return new QuestionInfo(Type.MULTIPLE_CHOICE, text, copy, null, 0, difficulty);
+    }
+
+    QuestionInfo withHint(String hint) {
+        return new QuestionInfo(type, text, options, hint, timeLimit, difficulty);
+    }
+
+    QuestionInfo withTimeLimit(int timeLimit) {
+        return new QuestionInfo(type, text, options, hint, timeLimit, difficulty);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public boolean isMultipleChoice() {
+        return type == Type.MULTIPLE_CHOICE;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /** Answer options in display order (A, B, ...); empty for text input. */
+    public List<String> getOptions() {
+        return options;
+    }
+
+    /** Null when the question has no hint. */
+    public String getHint() {
+        return hint;
+    }
+
+    /** Seconds; 0 = no time limit. */
+    public int getTimeLimit() {
+        return timeLimit;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+}
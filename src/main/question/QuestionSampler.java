@@ -0,0 +1,95 @@
+package main.question;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Random question picks for a quiz session, reproducible from a seed.
+ * - sample() draws k distinct entries of a pool with Floyd's algorithm: O(k) time and memory
+ *   whatever the pool size; the pool is never copied or shuffled
+ * - The k picks are then shuffled, so every order is equally likely
+ * - Stateless: each session passes its own SplittableRandom (sampleStratified creates one from
+ *   the seed), so concurrent sessions never share or contend on a generator, and the same seed
+ *   always gives the same questions
+ */
+public final class QuestionSampler {
+    private QuestionSampler() {
+    }
+
+    /**
+     * k distinct entries of each pool (k = perStratum[i] for pools[i]), stratum after stratum.
+     * A pool smaller than its k contributes all of its entries.
+     */
+    public static int[] sampleStratified(int[][] pools, int[] perStratum, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int total = 0;
+        for (int i = 0; i < pools.length; i++) {
+            total += Math.min(perStratum[i], pools[i].length);
+        }
+        int[] out = new int[total];
+        int pos = 0;
+        for (int i = 0; i < pools.length; i++) {
+            int[] picks = sample(pools[i], perStratum[i], random);
+            System.arraycopy(picks, 0, out, pos, picks.length);
+            pos += picks.length;
+        }
+        return out;
+    }
+
+    /**
+     * k distinct entries of pool in random order (all of them if the pool is smaller).
+     */
+    public static int[] sample(int[] pool, int k, SplittableRandom random) {
+        int n = pool.length;
+        k = Math.max(0, Math.min(k, n));
+        int[] picks = new int[k];
+        IntSet chosen = new IntSet(k);
+        // Floyd: for j = n-k .. n-1 pick t in [0, j]; if t is taken, j itself is new
+        for (int j = n - k, i = 0; j < n; j++, i++) {
+            int t = random.nextInt(j + 1);
+            int index = chosen.add(t) ? t : j;
+            if (index == j) {
+                chosen.add(j);
+            }
+            picks[i] = index;
+        }
+        for (int i = k - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = picks[i];
+            picks[i] = picks[j];
+            picks[j] = tmp;
+        }
+        for (int i = 0; i < k; i++) {
+            picks[i] = pool[picks[i]];
+        }
+        return picks;
+    }
+
+    /** Open-addressing set of non-negative ints sized for k entries (no boxing). */
+    private static final class IntSet {
+        private final int[] slots;
+
+        IntSet(int k) {
+            int capacity = 4;
+            while (capacity < k * 2) {
+                capacity <<= 1;
+            }
+            slots = new int[capacity];
+            Arrays.fill(slots, -1);
+        }
+
+        /** False if the value was already present. */
+        boolean add(int value) {
+            int mask = slots.length - 1;
+            int i = (value * 0x9E3779B9) >>> 16 & mask;
+            while (slots[i] != -1) {
+                if (slots[i] == value) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            slots[i] = value;
+            return true;
+        }
+    }
+}
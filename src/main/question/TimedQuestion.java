@@ -7,11 +7,13 @@ package main.question;
  * Hiển thị thời gian cho phép khi display()
  */
 public class TimedQuestion extends QuestionDecorator {
-    private int timeLimit; // giây
+    private final int timeLimit; // giây
+    private final QuestionInfo info;
     
     public TimedQuestion(Question question, int timeLimit) {
         super(question);
         this.timeLimit = timeLimit;
+        this.info = question.getInfo().withTimeLimit(timeLimit);
     }
     
     /**
@@ -27,6 +29,11 @@ public class TimedQuestion extends QuestionDecorator {
         System.out.println("[THOI GIAN] " + timeLimit + " giay");
     }
     
+    @Override
+    public QuestionInfo getInfo() {
+        return info;
+    }
+    
     public int getTimeLimit() {
         return timeLimit;
     }
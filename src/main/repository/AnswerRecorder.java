@@ -0,0 +1,153 @@
+package main.repository;
+
+import main.model.AnswerEvent;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers per-answer events in memory and persists them in batches.
+ * - record() only appends to a list: no DB work per question
+ * - endAttempt() (or every flushEvery events) hands the buffer to a background thread,
+ *   which writes it with {@link AnswerRepository#saveAll} in one transaction
+ * - shutdown() writes whatever is still buffered
+ * - Failed batches are retried, then saved row by row ({@link BatchRetry}), never dropped;
+ *   answers that still fail are appended to a JSONL spill file (one answer per line)
+ *
+ * Settings (JVM system properties):
+ * - quiz.answers.capture    record answers at all (default true)
+ * - quiz.answers.flushEvery events per batch before the attempt ends (default 50)
+ * - quiz.answers.spillFile  answers that could not be saved (default Database/data/answers-unsaved.log)
+ */
+public class AnswerRecorder {
+    private final AnswerRepository repository;
+    private final boolean enabled;
+    private final int flushEvery;
+    private final Path spillFile;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "answer-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private List<AnswerEvent> buffer = new ArrayList<>(); // guarded by this
+
+    public AnswerRecorder(AnswerRepository repository) {
+        this(repository,
+             Boolean.parseBoolean(System.getProperty("quiz.answers.capture", "true")),
+             Integer.getInteger("quiz.answers.flushEvery", 50));
+    }
+
+    public AnswerRecorder(AnswerRepository repository, boolean enabled, int flushEvery) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.flushEvery = Math.max(1, flushEvery);
+        this.spillFile = Paths.get(System.getProperty("quiz.answers.spillFile", "Database/data/answers-unsaved.log"));
+    }
+
+    public synchronized void record(AnswerEvent e) {
+        if (!enabled) {
+            return;
+        }
+        if (e.getAnsweredAt() == null) {
+            e.setAnsweredAt(AnswerRepository.now()); // capture time, not write time
+        }
+        buffer.add(e);
+        if (buffer.size() >= flushEvery) {
+            handOff();
+        }
+    }
+
+    /** The quiz run finished (or was abandoned): persist its buffered answers. */
+    public synchronized void endAttempt() {
+        handOff();
+    }
+
+    public synchronized int bufferedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Write everything still buffered and stop the background thread.
+     */
+    public void shutdown() {
+        endAttempt();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handOff() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<AnswerEvent> batch = buffer;
+        buffer = new ArrayList<>();
+        try {
+            writer.execute(() -> write(batch));
+        } catch (RejectedExecutionException e) {
+            write(batch); // after shutdown
+        }
+    }
+
+    private void write(List<AnswerEvent> batch) {
+        BatchRetry.write("answer recorder", batch, repository::saveAll, this::spill);
+    }
+
+    /** Last resort for answers the database would not take: append them to the spill file. */
+    private synchronized void spill(List<AnswerEvent> batch) {
+        try {
+            if (spillFile.getParent() != null) {
+                Files.createDirectories(spillFile.getParent());
+            }
+            try (Writer out = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AnswerEvent e : batch) {
+                    writeJson(out, e);
+                }
+            }
+            System.err.println("[DB] answer recorder: " + batch.size() + " answers saved to " + spillFile);
+        } catch (IOException ex) {
+            System.err.println("[DB] answer recorder: cannot write " + spillFile + ": " + ex.getMessage());
+            for (AnswerEvent e : batch) {
+                System.err.println("[DB] answer recorder: unsaved answer " + e.getAttemptId() + " #" + e.getQuestionNo()
+                        + " " + e.getQuestionKey() + ", correct=" + e.isCorrect() + ", points " + e.getPoints());
+            }
+        }
+    }
+
+    /** One line with the answers table columns. */
+    private static void writeJson(Writer out, AnswerEvent e) throws IOException {
+        out.write("{\"attempt_id\":");
+        ResultExporter.writeJsonString(out, e.getAttemptId());
+        out.write(",\"player_name\":");
+        ResultExporter.writeJsonString(out, e.getPlayerName());
+        out.write(",\"question_no\":" + e.getQuestionNo());
+        out.write(",\"question_key\":");
+        ResultExporter.writeJsonString(out, e.getQuestionKey());
+        out.write(",\"difficulty\":");
+        ResultExporter.writeJsonString(out, e.getDifficulty().code());
+        out.write(",\"answer\":");
+        ResultExporter.writeJsonString(out, e.getAnswer());
+        out.write(",\"correct\":" + (e.isCorrect() ? 1 : 0));
+        out.write(",\"time_ms\":" + e.getTimeMs());
+        out.write(",\"points\":" + e.getPoints());
+        out.write(",\"answered_at\":");
+        ResultExporter.writeJsonString(out, e.getAnsweredAt());
+        out.write("}\n");
+    }
+}
@@ -0,0 +1,92 @@
+package main.repository;
+
+import main.db.Database;
+import main.model.AnswerEvent;
+import main.question.Difficulty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-answer events in the answers table (Database/scripts/005_answers.sql).
+ */
+public class AnswerRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO answers(attempt_id, player_name, question_no, question_key, difficulty, " +
+            "answer, correct, time_ms, points, answered_at) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Insert a batch of events in a single transaction (all or nothing).
+     */
+    public boolean saveAll(List<AnswerEvent> events) {
+        if (events.isEmpty()) {
+            return true;
+        }
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(INSERT_SQL)) {
+            conn.setAutoCommit(false);
+            try {
+                for (AnswerEvent e : events) {
+                    ps.setString(1, e.getAttemptId());
+                    ps.setString(2, e.getPlayerName());
+                    ps.setInt(3, e.getQuestionNo());
+                    ps.setString(4, e.getQuestionKey());
+                    ps.setString(5, e.getDifficulty().code());
+                    ps.setString(6, e.getAnswer());
+                    ps.setInt(7, e.isCorrect() ? 1 : 0);
+                    ps.setLong(8, e.getTimeMs());
+                    ps.setInt(9, e.getPoints());
+                    ps.setString(10, e.getAnsweredAt() != null ? e.getAnsweredAt() : now());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            System.err.println("[DB] save answers failed (" + events.size() + " rows): " + e.getMessage());
+            return false;
+        }
+    }
+
+    /** Current UTC time in the answered_at / played_at format. */
+    static String now() {
+        return LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS).format(ResultStore.PLAYED_AT_FORMAT);
+    }
+
+    /**
+     * Answers of one quiz attempt in question order (seeks idx_answers_attempt).
+     */
+    public List<AnswerEvent> listByAttempt(String attemptId) {
+        String sql = "SELECT attempt_id, player_name, question_no, question_key, difficulty, answer, " +
+                     "correct, time_ms, points, answered_at FROM answers WHERE attempt_id = ? ORDER BY question_no";
+        List<AnswerEvent> list = new ArrayList<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, attemptId);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    AnswerEvent e = new AnswerEvent(
+                        rs.getString(1), rs.getString(2), rs.getInt(3), rs.getString(4),
+                        Difficulty.fromCode(rs.getString(5)), rs.getString(6), rs.getInt(7) != 0, rs.getLong(8),
+                        rs.getInt(9));
+                    e.setAnsweredAt(rs.getString(10));
+                    list.add(e);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("[DB] listByAttempt failed: " + e.getMessage());
+        }
+        return list;
+    }
+}
@@ -0,0 +1,221 @@
+package main.repository;
+
+import main.model.PlayerStats;
+import main.model.Result;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ResultStore} backed by an append-only JSONL file.
+ * - One line per save: {"op":"put","id":..,"player_name":..,...}; deletes append {"op":"del","id":..}
+ * - The file is replayed into an {@link InMemoryResultStore} on open, which then serves all reads
+ * - Lines are flushed to the OS after every save/saveAll call (no fsync); a torn last line
+ *   after a crash is skipped on replay, and new records start on a fresh line
+ * - A saveAll batch is one write; if it fails the file is cut back to where the batch started,
+ *   so the failed rows are not replayed later (and their ids are not reused for other rows)
+ *
+ * The file only grows; deleted rows stay in it as put + del pairs.
+ */
+public class AppendLogResultStore implements ResultStore {
+    private static final int MAX_LOGGED_ERRORS = 10;
+
+    private final Path file;
+    private final InMemoryResultStore memory = new InMemoryResultStore();
+    private final FileChannel out;
+    private final StringWriter batch = new StringWriter(); // lines of the current save, guarded by this
+    private int nextId = 1;
+
+    public AppendLogResultStore(Path file) throws IOException {
+        this.file = file;
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        if (Files.exists(file)) {
+            replay();
+        }
+        this.out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (endsWithTornLine()) {
+            append("\n"); // keep new records off the damaged line
+        }
+    }
+
+    private boolean endsWithTornLine() throws IOException {
+        try (SeekableByteChannel ch = Files.newByteChannel(file, StandardOpenOption.READ)) {
+            if (ch.size() == 0) {
+                return false;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            ch.position(ch.size() - 1).read(last);
+            return last.get(0) != '\n';
+        }
+    }
+
+    private void replay() throws IOException {
+        long start = System.nanoTime();
+        int lineNo = 0;
+        int skipped = 0;
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                lineNo++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    Map<String, String> f = new ResultImporter.FlatJsonParser(line).parseObject();
+                    int id = Integer.parseInt(f.get("id"));
+                    if ("del".equals(f.get("op"))) {
+                        memory.deleteById(id);
+                    } else {
+                        Result r = new Result(f.get("player_name"), f.get("strategy"),
+                                Integer.parseInt(f.get("score")),
+                                Integer.parseInt(f.get("total_questions")),
+                                Integer.parseInt(f.get("correct_answers")),
+                                Long.parseLong(f.get("duration_sec")));
+                        r.setId(id);
+                        r.setPlayedAt(f.get("played_at"));
+                        memory.restore(r);
+                    }
+                    nextId = Math.max(nextId, id + 1);
+                } catch (RuntimeException e) {
+                    if (skipped++ < MAX_LOGGED_ERRORS) {
+                        System.err.println("[DB] result log: skipping line " + lineNo + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+        System.out.println("[DB] result log: replayed " + lineNo + " lines (" + memory.size() + " results) in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    @Override
+    public synchronized boolean save(Result r) {
+        return saveAll(Collections.singletonList(r));
+    }
+
+    @Override
+    public synchronized boolean saveAll(List<Result> results) {
+        if (results.isEmpty()) {
+            return true;
+        }
+        int firstId = nextId;
+        long start = -1;
+        try {
+            batch.getBuffer().setLength(0);
+            for (int i = 0; i < results.size(); i++) {
+                Result r = results.get(i);
+                ResultRepository.stampPlayedAt(r);
+                writePut(batch, r, firstId + i);
+            }
+            start = out.size();
+            append(batch.toString());
+        } catch (IOException e) {
+            System.err.println("[DB] result log write failed (" + results.size() + " rows): " + e.getMessage());
+            if (start >= 0) {
+                discardFrom(start, firstId + results.size());
+            }
+            return false;
+        }
+        nextId = firstId + results.size();
+        for (int i = 0; i < results.size(); i++) {
+            Result r = results.get(i);
+            r.setId(firstId + i);
+            memory.restore(r);
+        }
+        return true;
+    }
+
+    private void append(String text) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            out.write(bytes);
+        }
+    }
+
+    /** Drop a partly written batch; if that fails too, its ids stay taken (they may be replayed). */
+    private void discardFrom(long start, int idsTakenUntil) {
+        try {
+            out.truncate(start);
+        } catch (IOException e) {
+            System.err.println("[DB] result log: cannot remove the failed batch: " + e.getMessage());
+            nextId = idsTakenUntil;
+        }
+    }
+
+    private static void writePut(Writer out, Result r, int id) throws IOException {
+        out.write("{\"op\":\"put\",\"id\":");
+        out.write(Integer.toString(id));
+        out.write(",\"player_name\":");
+        ResultExporter.writeJsonString(out, r.getPlayerName());
+        out.write(",\"strategy\":");
+        ResultExporter.writeJsonString(out, r.getStrategy());
+        out.write(",\"score\":" + r.getScore());
+        out.write(",\"total_questions\":" + r.getTotalQuestions());
+        out.write(",\"correct_answers\":" + r.getCorrectAnswers());
+        out.write(",\"duration_sec\":" + r.getDurationSec());
+        out.write(",\"played_at\":");
+        ResultExporter.writeJsonString(out, r.getPlayedAt());
+        out.write("}\n");
+    }
+
+    @Override
+    public synchronized boolean deleteById(int id) {
+        if (!memory.contains(id)) {
+            return false;
+        }
+        try {
+            append("{\"op\":\"del\",\"id\":" + id + "}\n");
+            return memory.deleteById(id);
+        } catch (IOException e) {
+            System.err.println("[DB] result log delete failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public List<Result> listTop(int limit) {
+        return memory.listTop(limit);
+    }
+
+    @Override
+    public List<Result> listTop(LeaderboardWindow window, int limit) {
+        return memory.listTop(window, limit);
+    }
+
+    @Override
+    public List<Result> listTopPage(Result after, int pageSize) {
+        return memory.listTopPage(after, pageSize);
+    }
+
+    @Override
+    public List<Result> listRecentByPlayer(String playerName, int limit) {
+        return memory.listRecentByPlayer(playerName, limit);
+    }
+
+    @Override
+    public PlayerStats getPlayerStats(String playerName) {
+        return memory.getPlayerStats(playerName);
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            System.err.println("[DB] result log close failed: " + e.getMessage());
+        }
+    }
+}
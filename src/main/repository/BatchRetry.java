@@ -0,0 +1,59 @@
+package main.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Retry loop shared by the background writers ({@link ResultWriter}, {@link AnswerRecorder}).
+ * - A batch that fails (the database is probably locked by another writer) is retried with
+ *   growing backoff, MAX_ATTEMPTS times in all
+ * - Then it is split and saved row by row, so one bad row (constraint violation, malformed value)
+ *   cannot hold up the rows queued behind it; only the rows that still fail go to the writer's
+ *   spill handler. Nothing is dropped.
+ */
+final class BatchRetry {
+    static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 100;
+
+    private BatchRetry() {
+    }
+
+    /**
+     * Save the batch; rows that cannot be saved are passed to spill.
+     * @param writer name used in log lines, e.g. "result writer"
+     * @param save   one attempt; true when the whole list was saved
+     * @param spill  last resort for the rows the store would not take
+     */
+    static <T> void write(String writer, List<T> batch, Predicate<List<T>> save, Consumer<List<T>> spill) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            if (save.test(batch)) {
+                return;
+            }
+            if (attempt < MAX_ATTEMPTS) {
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MS * attempt);
+                } catch (InterruptedException e) {
+                    // retry right away; the writer decides when to stop
+                }
+            }
+        }
+        List<T> failed = new ArrayList<>();
+        if (batch.size() > 1) {
+            for (T row : batch) {
+                if (!save.test(Collections.singletonList(row))) {
+                    failed.add(row);
+                }
+            }
+        } else {
+            failed.addAll(batch);
+        }
+        if (!failed.isEmpty()) {
+            System.err.println("[DB] " + writer + ": " + failed.size() + " of " + batch.size()
+                    + " rows not saved after " + MAX_ATTEMPTS + " attempts");
+            spill.accept(failed);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package main.repository;
+
+import main.model.PlayerStats;
+import main.model.Result;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * {@link ResultStore} kept entirely in memory (lost on exit).
+ * - Ranking is a TreeSet in leaderboard order: top-N and keyset pages walk it from the seek point
+ * - Per-player lists serve history and stats without touching other players' rows
+ * - DAY/WEEK windows walk the ranking and keep each player's first row inside the window
+ *   (on equal scores the latest attempt, the same rule as the SQLite rollups)
+ *
+ * Thread-safe (all methods synchronized); stored Result objects must not be modified by callers.
+ */
+public class InMemoryResultStore implements ResultStore {
+    private static final Comparator<Result> NEWEST_FIRST =
+            Comparator.comparing(Result::getPlayedAt).reversed().thenComparing(Comparator.comparingInt(Result::getId).reversed());
+
+    private final Map<Integer, Result> byId = new HashMap<>();
+    private final NavigableSet<Result> ranking = new TreeSet<>(LeaderboardCache.RANKING);
+    private final Map<String, List<Result>> byPlayer = new HashMap<>();
+    private int nextId = 1;
+
+    @Override
+    public synchronized boolean save(Result r) {
+        ResultRepository.stampPlayedAt(r);
+        r.setId(nextId++);
+        add(r);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean saveAll(List<Result> results) {
+        for (Result r : results) {
+            save(r);
+        }
+        return true;
+    }
+
+    /** Insert a row that already has an id (log replay); later ids continue after it. */
+    synchronized void restore(Result r) {
+        nextId = Math.max(nextId, r.getId() + 1);
+        add(r);
+    }
+
+    private void add(Result r) {
+        byId.put(r.getId(), r);
+        ranking.add(r);
+        byPlayer.computeIfAbsent(r.getPlayerName(), k -> new ArrayList<>()).add(r);
+    }
+
+    @Override
+    public synchronized List<Result> listTop(int limit) {
+        return take(ranking.iterator(), limit);
+    }
+
+    @Override
+    public synchronized List<Result> listTop(LeaderboardWindow window, int limit) {
+        if (window == LeaderboardWindow.ALL_TIME) {
+            return listTop(limit);
+        }
+        // current local day/week as a UTC played_at range, so rows are compared as strings
+        LocalDate start = LocalDate.now();
+        if (window == LeaderboardWindow.WEEK) {
+            start = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+        String from = toUtc(start.atStartOfDay());
+        String to = toUtc(start.plusDays(window == LeaderboardWindow.WEEK ? 7 : 1).atStartOfDay());
+
+        List<Result> list = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Result r : ranking) {
+            if (list.size() >= limit) {
+                break;
+            }
+            String at = r.getPlayedAt();
+            if (at.compareTo(from) >= 0 && at.compareTo(to) < 0 && seen.add(r.getPlayerName())) {
+                list.add(r);
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public synchronized List<Result> listTopPage(Result after, int pageSize) {
+        if (after == null) {
+            return listTop(pageSize);
+        }
+        return take(ranking.tailSet(after, false).iterator(), pageSize);
+    }
+
+    @Override
+    public synchronized List<Result> listRecentByPlayer(String playerName, int limit) {
+        List<Result> rows = byPlayer.get(playerName);
+        if (rows == null) {
+            return new ArrayList<>();
+        }
+        List<Result> sorted = new ArrayList<>(rows);
+        sorted.sort(NEWEST_FIRST);
+        return new ArrayList<>(sorted.subList(0, Math.min(limit, sorted.size())));
+    }
+
+    @Override
+    public synchronized PlayerStats getPlayerStats(String playerName) {
+        List<Result> rows = byPlayer.get(playerName);
+        if (rows == null || rows.isEmpty()) {
+            return new PlayerStats(playerName, 0, 0, 0, null);
+        }
+        int best = Integer.MIN_VALUE;
+        long total = 0;
+        String last = null;
+        for (Result r : rows) {
+            best = Math.max(best, r.getScore());
+            total += r.getScore();
+            if (last == null || r.getPlayedAt().compareTo(last) > 0) {
+                last = r.getPlayedAt();
+            }
+        }
+        return new PlayerStats(playerName, rows.size(), best, total / (double) rows.size(), last);
+    }
+
+    @Override
+    public synchronized boolean deleteById(int id) {
+        Result r = byId.remove(id);
+        if (r == null) {
+            return false;
+        }
+        ranking.remove(r);
+        List<Result> rows = byPlayer.get(r.getPlayerName());
+        rows.remove(r);
+        if (rows.isEmpty()) {
+            byPlayer.remove(r.getPlayerName());
+        }
+        return true;
+    }
+
+    synchronized boolean contains(int id) {
+        return byId.containsKey(id);
+    }
+
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    private static List<Result> take(Iterator<Result> it, int limit) {
+        List<Result> list = new ArrayList<>();
+        while (list.size() < limit && it.hasNext()) {
+            list.add(it.next());
+        }
+        return list;
+    }
+
+    private static String toUtc(LocalDateTime local) {
+        return local.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).format(PLAYED_AT_FORMAT);
+    }
+}
@@ -0,0 +1,142 @@
+package main.repository;
+
+import main.model.Result;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * In-memory top-N leaderboard, shared by every ResultRepository in the process.
+ * - Loaded from the DB once, then kept up to date on save/delete
+ * - Saves are insert-sorted and the tail is evicted beyond capacity
+ * - A delete that drops a full cache below capacity triggers a reload on the next read
+ * - Reloads query the DB outside the lock, so writers are not blocked behind them; a reload that
+ *   raced with a save/delete is returned to its caller but not cached (the next read loads again)
+ * - Optional TTL for a quiz.db shared by several machines, whose writes this cache cannot see
+ *
+ * Tuning (JVM system properties):
+ * - quiz.leaderboard.cacheSize   rows kept in memory (default 20)
+ * - quiz.leaderboard.cacheTtlSec reload period for a shared quiz.db, 0 = never (default 0)
+ */
+public final class LeaderboardCache {
+    /** Same order as the leaderboard query: score DESC, played_at DESC, id ASC. */
+    static final Comparator<Result> RANKING = (a, b) -> {
+        int c = Integer.compare(b.getScore(), a.getScore());
+        if (c != 0) return c;
+        c = compareNullable(b.getPlayedAt(), a.getPlayedAt());
+        if (c != 0) return c;
+        return Integer.compare(a.getId(), b.getId());
+    };
+
+    private static final LeaderboardCache INSTANCE = new LeaderboardCache(
+            Integer.getInteger("quiz.leaderboard.cacheSize", 20),
+            Long.getLong("quiz.leaderboard.cacheTtlSec", 0L) * 1000L);
+
+    private final int capacity;
+    private final long ttlMs;
+    private final List<Result> top = new ArrayList<>();
+    private boolean loaded;
+    private boolean complete; // true when the table has no rows beyond what is cached
+    private long loadedAt;
+    private long version; // bumped by every change, so a reload can tell it raced with one
+
+    private LeaderboardCache(int capacity, long ttlMs) {
+        this.capacity = Math.max(1, capacity);
+        this.ttlMs = ttlMs;
+    }
+
+    public static LeaderboardCache getInstance() {
+        return INSTANCE;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Top rows from memory; the loader is only called when the cache is empty or stale.
+     */
+    List<Result> top(int limit, Loader loader) throws SQLException {
+        long seen;
+        synchronized (this) {
+            if (loaded && (ttlMs <= 0 || System.currentTimeMillis() - loadedAt < ttlMs)) {
+                return new ArrayList<>(top.subList(0, Math.min(limit, top.size())));
+            }
+            seen = version;
+        }
+        List<Result> rows = loader.load(capacity);
+        synchronized (this) {
+            if (version == seen) {
+                top.clear();
+                top.addAll(rows);
+                complete = rows.size() < capacity;
+                loaded = true;
+                loadedAt = System.currentTimeMillis();
+                version++;
+            }
+        }
+        return new ArrayList<>(rows.subList(0, Math.min(limit, rows.size())));
+    }
+
+    /** Called after a row is committed (id and played_at must be set). */
+    synchronized void onInsert(Result r) {
+        version++;
+        if (!loaded) {
+            return;
+        }
+        for (Result existing : top) {
+            if (existing.getId() == r.getId()) {
+                return; // already picked up by a concurrent reload
+            }
+        }
+        int pos = Collections.binarySearch(top, r, RANKING);
+        if (pos < 0) {
+            pos = -pos - 1;
+        }
+        if (pos >= capacity) {
+            return;
+        }
+        top.add(pos, r);
+        if (top.size() > capacity) {
+            top.remove(top.size() - 1);
+            complete = false;
+        }
+    }
+
+    synchronized void onDelete(int id) {
+        version++;
+        if (!loaded) {
+            return;
+        }
+        for (int i = 0; i < top.size(); i++) {
+            if (top.get(i).getId() == id) {
+                top.remove(i);
+                if (!complete) {
+                    // rows below the cut-off exist in the DB; refill on next read
+                    loaded = false;
+                }
+                return;
+            }
+        }
+    }
+
+    public synchronized void invalidate() {
+        version++;
+        loaded = false;
+        top.clear();
+    }
+
+    private static int compareNullable(String a, String b) {
+        if (a == null) return b == null ? 0 : -1;
+        if (b == null) return 1;
+        return a.compareTo(b);
+    }
+
+    /** Reads the current top rows from the DB. */
+    interface Loader {
+        List<Result> load(int limit) throws SQLException;
+    }
+}
@@ -0,0 +1,22 @@
+package main.repository;
+
+/**
+ * Time window of a leaderboard.
+ * DAY and WEEK read the best score per player from the rollup tables
+ * (Database/scripts/003_leaderboard_rollups.sql); ALL_TIME is the classic top list.
+ */
+public enum LeaderboardWindow {
+    DAY("leaderboard_daily", "day", "date('now', 'localtime')"),
+    WEEK("leaderboard_weekly", "week_start", "date('now', 'localtime', 'weekday 0', '-6 days')"),
+    ALL_TIME(null, null, null);
+
+    final String table;
+    final String keyColumn;
+    final String currentKey; // SQL expression for the current window
+
+    LeaderboardWindow(String table, String keyColumn, String currentKey) {
+        this.table = table;
+        this.keyColumn = keyColumn;
+        this.currentKey = currentKey;
+    }
+}
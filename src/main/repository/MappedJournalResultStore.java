@@ -0,0 +1,371 @@
+package main.repository;
+
+import main.model.PlayerStats;
+import main.model.Result;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * {@link ResultStore} on a memory-mapped, append-only journal of fixed-size binary records
+ * (for kiosks where SQLite locking gets in the way).
+ * - Appends are plain writes into the mapped buffer: no syscall per save; the OS writes pages back,
+ *   and close() forces them to disk
+ * - player_name and strategy are dictionary-encoded as int ids; the strings live in a small
+ *   side file (journal + ".dict") that is only written when a new string appears; it is forced
+ *   to disk before any record uses the new id, so a crash never leaves a record whose name is lost
+ * - Every record ends with a CRC32; on open the journal is scanned up to the first empty or
+ *   damaged record (torn tail write) and the rest is wiped
+ * - Reads are served by an {@link InMemoryResultStore} index rebuilt from the journal on open
+ * - saveAll is all or nothing: if a row fails, the records already appended for the batch are
+ *   wiped again, so they are never replayed and their ids are free for the retry
+ *
+ * One process at a time (the journal is locked while open). Deletes are appended as tombstones,
+ * so the file only grows, up to MAX_BYTES (just under 2 GB, one mapping); then saves fail with
+ * "journal is full" until the journal is exported and replaced.
+ */
+public class MappedJournalResultStore implements ResultStore {
+    private static final int MAGIC = 0x51524A31; // "QRJ1"
+    private static final int VERSION = 1;
+    static final int RECORD_SIZE = 48;
+    private static final int INITIAL_RECORDS = 16 * 1024;
+    // largest whole number of records one MappedByteBuffer (int positions) can address
+    static final long MAX_BYTES = (Integer.MAX_VALUE / RECORD_SIZE) * (long) RECORD_SIZE;
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    // Record layout (little endian), offsets in bytes
+    private static final int TYPE = 0;       // byte
+    private static final int ID = 4;         // int
+    private static final int PLAYER = 8;     // int dictionary id
+    private static final int STRATEGY = 12;  // int dictionary id
+    private static final int SCORE = 16;     // int
+    private static final int TOTAL = 20;     // int
+    private static final int CORRECT = 24;   // int
+    private static final int DURATION = 28;  // int seconds
+    private static final int PLAYED_AT = 32; // long epoch seconds, UTC
+    private static final int CRC = 44;       // int CRC32 of bytes [0, 44)
+
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final FileChannel dictChannel;
+    private final InMemoryResultStore memory = new InMemoryResultStore();
+    private final Map<String, Integer> dictIds = new HashMap<>();
+    private final List<String> dict = new ArrayList<>();
+    private final CRC32 crc = new CRC32();
+
+    private MappedByteBuffer map;
+    private ByteBuffer view; // second cursor over map, used to checksum a record in place
+    private long writePos = RECORD_SIZE; // slot 0 is the header
+    private int nextId = 1;
+
+    public MappedJournalResultStore(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileLock acquired;
+        try {
+            acquired = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            acquired = null; // already open in this JVM
+        }
+        lock = acquired;
+        if (lock == null) {
+            channel.close();
+            throw new IOException("journal is in use by another process: " + file);
+        }
+        dictChannel = FileChannel.open(file.resolveSibling(file.getFileName() + ".dict"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            loadDictionary();
+            if (channel.size() > MAX_BYTES) {
+                throw new IOException("journal larger than " + MAX_BYTES + " bytes: " + file);
+            }
+            map(Math.max(channel.size(), (long) RECORD_SIZE * INITIAL_RECORDS));
+            if (map.getInt(0) != MAGIC) {
+                writeHeader();
+            } else if (map.getInt(4) != VERSION || map.getInt(8) != RECORD_SIZE) {
+                throw new IOException("unsupported journal format in " + file);
+            }
+            replay();
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private void map(long size) throws IOException {
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        map.order(ByteOrder.LITTLE_ENDIAN);
+        view = map.duplicate();
+    }
+
+    private void writeHeader() {
+        map.putInt(0, MAGIC);
+        map.putInt(4, VERSION);
+        map.putInt(8, RECORD_SIZE);
+    }
+
+    /** Dictionary file: [int length][UTF-8 bytes][int CRC32] per string, in id order. */
+    private void loadDictionary() throws IOException {
+        ByteBuffer all = ByteBuffer.allocate((int) dictChannel.size());
+        dictChannel.read(all, 0);
+        all.flip();
+        int good = 0;
+        while (all.remaining() >= 4) {
+            int len = all.getInt();
+            if (len < 0 || all.remaining() < len + 4) {
+                break;
+            }
+            byte[] bytes = new byte[len];
+            all.get(bytes);
+            crc.reset();
+            crc.update(bytes);
+            if (all.getInt() != (int) crc.getValue()) {
+                break;
+            }
+            String s = new String(bytes, StandardCharsets.UTF_8);
+            dictIds.put(s, dict.size());
+            dict.add(s);
+            good = all.position();
+        }
+        if (good < dictChannel.size()) {
+            System.err.println("[DB] journal dictionary: dropping " + (dictChannel.size() - good) + " damaged bytes");
+            dictChannel.truncate(good);
+        }
+    }
+
+    private void replay() {
+        long start = System.nanoTime();
+        int records = 0;
+        long limit = map.capacity();
+        while (writePos + RECORD_SIZE <= limit) {
+            int p = (int) writePos;
+            byte type = map.get(p + TYPE);
+            if (type == 0 || map.getInt(p + CRC) != checksum(p)) {
+                break;
+            }
+            int id = map.getInt(p + ID);
+            if (type == DELETE) {
+                memory.deleteById(id);
+            } else {
+                String player = lookup(map.getInt(p + PLAYER));
+                String strategy = lookup(map.getInt(p + STRATEGY));
+                if (player == null || strategy == null) {
+                    break; // dictionary lost its tail; records from here on cannot be decoded
+                }
+                Result r = new Result(player, strategy, map.getInt(p + SCORE), map.getInt(p + TOTAL),
+                        map.getInt(p + CORRECT), map.getInt(p + DURATION));
+                r.setId(id);
+                r.setPlayedAt(LocalDateTime.ofEpochSecond(map.getLong(p + PLAYED_AT), 0, ZoneOffset.UTC)
+                        .format(PLAYED_AT_FORMAT));
+                memory.restore(r);
+            }
+            nextId = Math.max(nextId, id + 1);
+            writePos += RECORD_SIZE;
+            records++;
+        }
+        // wipe a torn or undecodable tail (pages may reach disk out of order, so check every
+        // remaining slot) so later appends never sit in front of stale records
+        int wiped = 0;
+        for (int p = (int) writePos; p + RECORD_SIZE <= limit; p += RECORD_SIZE) {
+            if (map.get(p + TYPE) != 0 || map.getInt(p + CRC) != 0) {
+                for (int i = 0; i < RECORD_SIZE; i++) {
+                    map.put(p + i, (byte) 0);
+                }
+                wiped++;
+            }
+        }
+        if (wiped > 0) {
+            System.err.println("[DB] journal: discarded " + wiped + " damaged records after offset " + writePos);
+        }
+        System.out.println("[DB] journal: replayed " + records + " records (" + memory.size() + " results) in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    private String lookup(int dictId) {
+        return dictId >= 0 && dictId < dict.size() ? dict.get(dictId) : null;
+    }
+
+    private int intern(String s) throws IOException {
+        Integer id = dictIds.get(s);
+        if (id != null) {
+            return id;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        crc.reset();
+        crc.update(bytes);
+        ByteBuffer entry = ByteBuffer.allocate(bytes.length + 8);
+        entry.putInt(bytes.length).put(bytes).putInt((int) crc.getValue()).flip();
+        long pos = dictChannel.size();
+        while (entry.hasRemaining()) {
+            pos += dictChannel.write(entry, pos);
+        }
+        // on disk before the record that uses it: mapped pages may be written back at any time,
+        // and replay stops at a record whose name is missing
+        dictChannel.force(false);
+        id = dict.size();
+        dict.add(s);
+        dictIds.put(s, id);
+        return id;
+    }
+
+    private int checksum(int p) {
+        view.clear();
+        view.position(p).limit(p + CRC);
+        crc.reset();
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+
+    private int ensureSlot() throws IOException {
+        if (writePos + RECORD_SIZE > map.capacity()) {
+            if (map.capacity() >= MAX_BYTES) {
+                throw new IOException("journal is full (" + MAX_BYTES + " bytes); export it and start a new one");
+            }
+            map(Math.min(map.capacity() * 2L, MAX_BYTES)); // grows the file; the new pages read as zero
+        }
+        return (int) writePos;
+    }
+
+    /** Fill every field, then the CRC last, so a half-written record never validates. */
+    private void append(byte type, int id, int player, int strategy, Result r, long playedAt) throws IOException {
+        int p = ensureSlot();
+        map.putInt(p + ID, id);
+        map.putInt(p + PLAYER, player);
+        map.putInt(p + STRATEGY, strategy);
+        map.putInt(p + SCORE, r == null ? 0 : r.getScore());
+        map.putInt(p + TOTAL, r == null ? 0 : r.getTotalQuestions());
+        map.putInt(p + CORRECT, r == null ? 0 : r.getCorrectAnswers());
+        map.putInt(p + DURATION, r == null ? 0 : (int) Math.min(Integer.MAX_VALUE, r.getDurationSec()));
+        map.putLong(p + PLAYED_AT, playedAt);
+        map.put(p + TYPE, type);
+        map.putInt(p + CRC, checksum(p));
+        writePos += RECORD_SIZE;
+    }
+
+    @Override
+    public synchronized boolean save(Result r) {
+        return saveAll(Collections.singletonList(r));
+    }
+
+    @Override
+    public synchronized boolean saveAll(List<Result> results) {
+        int firstId = nextId;
+        long batchStart = writePos;
+        try {
+            for (int i = 0; i < results.size(); i++) {
+                Result r = results.get(i);
+                ResultRepository.stampPlayedAt(r);
+                long playedAt = LocalDateTime.parse(r.getPlayedAt(), PLAYED_AT_FORMAT).toEpochSecond(ZoneOffset.UTC);
+                append(PUT, firstId + i, intern(r.getPlayerName()), intern(r.getStrategy()), r, playedAt);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[DB] journal write failed (" + results.size() + " rows): " + e.getMessage());
+            wipeFrom(batchStart);
+            return false;
+        }
+        nextId = firstId + results.size();
+        for (int i = 0; i < results.size(); i++) {
+            Result r = results.get(i);
+            r.setId(firstId + i);
+            memory.restore(r);
+        }
+        return true;
+    }
+
+    /** Zero the records appended since {@code from} (type 0 ends replay) and write there again. */
+    private void wipeFrom(long from) {
+        for (int p = (int) from; p < writePos; p++) {
+            map.put(p, (byte) 0);
+        }
+        writePos = from;
+    }
+
+    @Override
+    public synchronized boolean deleteById(int id) {
+        if (!memory.contains(id)) {
+            return false;
+        }
+        try {
+            append(DELETE, id, 0, 0, null, 0);
+        } catch (IOException e) {
+            System.err.println("[DB] journal delete failed: " + e.getMessage());
+            return false;
+        }
+        return memory.deleteById(id);
+    }
+
+    @Override
+    public List<Result> listTop(int limit) {
+        return memory.listTop(limit);
+    }
+
+    @Override
+    public List<Result> listTop(LeaderboardWindow window, int limit) {
+        return memory.listTop(window, limit);
+    }
+
+    @Override
+    public List<Result> listTopPage(Result after, int pageSize) {
+        return memory.listTopPage(after, pageSize);
+    }
+
+    @Override
+    public List<Result> listRecentByPlayer(String playerName, int limit) {
+        return memory.listRecentByPlayer(playerName, limit);
+    }
+
+    @Override
+    public PlayerStats getPlayerStats(String playerName) {
+        return memory.getPlayerStats(playerName);
+    }
+
+    /** Force mapped pages and the dictionary to disk. */
+    public synchronized void sync() {
+        try {
+            if (map != null) {
+                map.force();
+            }
+            dictChannel.force(false);
+        } catch (IOException e) {
+            System.err.println("[DB] journal sync failed: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            if (dictChannel != null && dictChannel.isOpen()) {
+                sync();
+                dictChannel.close();
+            }
+            lock.release();
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("[DB] journal close failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package main.repository;
+
+import main.question.BasicQuestion;
+import main.question.Difficulty;
+import main.question.HintQuestion;
+import main.question.MultipleChoiceQuestion;
+import main.question.Question;
+import main.question.QuestionBank;
+import main.question.TimedQuestion;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming loader for question bank files.
+ * - Reads CSV (header row required) or JSONL (one flat JSON object per line) line by line;
+ *   only the current line and the built questions are in memory
+ * - Builds {@link BasicQuestion} / {@link MultipleChoiceQuestion}, wrapped in {@link HintQuestion}
+ *   and {@link TimedQuestion} when the line has a hint / time limit
+ * - Difficulty and topic indexes (int[] of positions) grow while reading, no second pass
+ * - Topic strings are shared between questions instead of one copy per line
+ * - Difficulty must be easy, medium or hard (any case); other values skip the line
+ * - Bad lines are skipped and counted, not fatal
+ *
+ * Fields: text, answer, difficulty, options (optional, separated by '|'), hint (optional),
+ * topic (optional), time_limit_sec (optional)
+ *
+ * Command line: java -cp "bin;lib\sqlite-jdbc.jar" main.repository.QuestionBankLoader bank.jsonl
+ *               java -cp "bin;lib\sqlite-jdbc.jar" main.repository.QuestionBankLoader --bench [10000 100000 1000000]
+ */
+public class QuestionBankLoader {
+    private static final int MAX_LOGGED_ERRORS = 10;
+
+    private long skipped;
+
+    /** Load by file extension: .csv, otherwise JSONL. */
+    public QuestionBank load(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase();
+        return name.endsWith(".csv") ? loadCsv(file) : loadJsonl(file);
+    }
+
+    public QuestionBank loadCsv(Path file) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = in.readLine();
+            if (header == null) {
+                skipped = 0;
+                return new Builder().build();
+            }
+            List<String> columns = ResultImporter.parseCsvLine(stripBom(header));
+            return read(in, line -> {
+                List<String> values = ResultImporter.parseCsvLine(line);
+                if (values.size() < columns.size()) {
+                    throw new IllegalArgumentException("expected " + columns.size() + " fields, got " + values.size());
+                }
+                Map<String, String> fields = new HashMap<>();
+                for (int i = 0; i < columns.size(); i++) {
+                    fields.put(columns.get(i).trim(), values.get(i));
+                }
+                return fields;
+            });
+        }
+    }
+
+    public QuestionBank loadJsonl(Path file) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return read(in, line -> new ResultImporter.FlatJsonParser(stripBom(line)).parseObject());
+        }
+    }
+
+    /** Lines skipped by the last load. */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    private QuestionBank read(BufferedReader in, LineParser parser) throws IOException {
+        Builder builder = new Builder();
+        skipped = 0;
+        int lineNo = 1;
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNo++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                builder.add(parser.parse(line));
+            } catch (RuntimeException e) {
+                if (skipped++ < MAX_LOGGED_ERRORS) {
+                    System.err.println("[DB] question bank: skipping line " + lineNo + ": " + e.getMessage());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /** Questions and growing indexes of one load. */
+    private static final class Builder {
+        private final List<Question> questions = new ArrayList<>();
+        private final Map<Difficulty, IntList> byDifficulty = new EnumMap<>(Difficulty.class);
+        private final Map<String, IntList> byTopic = new HashMap<>();
+        private final Map<String, String> shared = new HashMap<>();
+
+        void add(Map<String, String> f) {
+            String text = required(f, "text");
+            String answer = required(f, "answer");
+            Difficulty difficulty = difficulty(required(f, "difficulty"));
+            String options = blankToNull(f.get("options"));
+            String hint = blankToNull(f.get("hint"));
+            String topic = blankToNull(f.get("topic"));
+            String timeLimit = blankToNull(f.get("time_limit_sec"));
+
+            Question q = options != null
+                    ? new MultipleChoiceQuestion(text, answer, options.split("\\|"), difficulty)
+                    : new BasicQuestion(text, answer, difficulty);
+            if (hint != null) {
+                q = new HintQuestion(q, hint);
+            }
+            if (timeLimit != null) {
+                q = new TimedQuestion(q, Integer.parseInt(timeLimit.trim()));
+            }
+
+            int position = questions.size();
+            questions.add(q);
+            byDifficulty.computeIfAbsent(difficulty, k -> new IntList()).add(position);
+            if (topic != null) {
+                byTopic.computeIfAbsent(share(topic.trim()), k -> new IntList()).add(position);
+            }
+        }
+
+        private String share(String s) {
+            String existing = shared.putIfAbsent(s, s);
+            return existing != null ? existing : s;
+        }
+
+        QuestionBank build() {
+            return new QuestionBank(questions, toArrays(byDifficulty), toArrays(byTopic));
+        }
+
+        private static <K> Map<K, int[]> toArrays(Map<K, IntList> lists) {
+            Map<K, int[]> arrays = new HashMap<>();
+            for (Map.Entry<K, IntList> e : lists.entrySet()) {
+                arrays.put(e.getKey(), e.getValue().toArray());
+            }
+            return arrays;
+        }
+    }
+
+    private static String required(Map<String, String> f, String key) {
+        String v = f.get(key);
+        if (v == null || v.trim().isEmpty()) {
+            throw new IllegalArgumentException("missing " + key);
+        }
+        return v;
+    }
+
+    private static Difficulty difficulty(String s) {
+        Difficulty d = Difficulty.fromCode(s);
+        if (!d.code().equalsIgnoreCase(s.trim())) {
+            throw new IllegalArgumentException("unknown difficulty " + s.trim());
+        }
+        return d;
+    }
+
+    private static String blankToNull(String s) {
+        return s == null || s.trim().isEmpty() ? null : s;
+    }
+
+    private static String stripBom(String s) {
+        return !s.isEmpty() && s.charAt(0) == '\uFEFF' ? s.substring(1) : s;
+    }
+
+    private interface LineParser {
+        Map<String, String> parse(String line);
+    }
+
+    /** Growable int array (no Integer boxing for the indexes). */
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int v) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.out.println("Usage: QuestionBankLoader <file.csv|file.jsonl> | --bench [sizes...]");
+            return;
+        }
+        if (!"--bench".equals(args[0])) {
+            report(args[0], new QuestionBankLoader(), Paths.get(args[0]));
+            return;
+        }
+        int[] sizes = args.length > 1 ? new int[args.length - 1] : new int[] {10_000, 100_000, 1_000_000};
+        for (int i = 1; i < args.length; i++) {
+            sizes[i - 1] = Integer.parseInt(args[i]);
+        }
+        for (int n : sizes) {
+            Path file = Files.createTempFile("question-bank", ".jsonl");
+            try {
+                writeSample(file, n);
+                report(n + " questions", new QuestionBankLoader(), file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static void report(String label, QuestionBankLoader loader, Path file) throws IOException {
+        long before = usedHeap();
+        long start = System.nanoTime();
+        QuestionBank bank = loader.load(file);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        long heap = usedHeap() - before;
+        System.out.printf("%-16s loaded %d (%d skipped) in %d ms, heap %.1f MB (%d bytes/question), %d topics%n",
+                label, bank.size(), loader.getSkipped(), elapsedMs, heap / 1048576.0,
+                bank.size() == 0 ? 0 : heap / bank.size(), bank.getTopics().size());
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    /** Synthetic bank: half multiple choice, a hint on every third question, 50 topics. */
+    private static void writeSample(Path file, int n) throws IOException {
+        String[] difficulties = {"easy", "medium", "hard"};
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < n; i++) {
+                out.write("{\"text\":\"Question " + i + ": which option is correct?\",\"answer\":\"A" + i + "\"");
+                out.write(",\"difficulty\":\"" + difficulties[i % 3] + "\",\"topic\":\"topic-" + (i % 50) + "\"");
+                if (i % 2 == 0) {
+                    out.write(",\"options\":\"A" + i + "|B" + i + "|C" + i + "|D" + i + "\"");
+                }
+                if (i % 3 == 0) {
+                    out.write(",\"hint\":\"Starts with A\"");
+                }
+                out.write(",\"time_limit_sec\":30}\n");
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package main.repository;
+
+import main.db.Database;
+import main.question.BasicQuestion;
+import main.question.Difficulty;
+import main.question.HintQuestion;
+import main.question.MultipleChoiceQuestion;
+import main.question.Question;
+import main.question.QuestionSampler;
+import main.question.TimedQuestion;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Question bank in the questions table (Database/scripts/006_questions.sql), loaded lazily.
+ * - Per (locale, difficulty) only the ids are read, once, from idx_questions_locale_difficulty
+ * - Full rows are fetched for the questions actually asked and kept in a bounded LRU cache,
+ *   so a bank of 100k+ questions is never parsed or held in the heap as a whole
+ * - Questions are immutable and built with their timer, so every quiz session shares the
+ *   cached instances (flyweight) instead of building its own
+ *
+ * Settings (JVM system properties):
+ * - quiz.questions.cacheSize    questions kept in the LRU cache (default 256)
+ * - quiz.questions.timeLimitSec timer of every question, 0 = none (default 30)
+ */
+public class QuestionRepository {
+    private static final String SELECT_COLUMNS = "SELECT id, difficulty, text, answer, options, hint FROM questions";
+    private static final int MAX_IDS_PER_QUERY = 500; // stay below SQLite's bound-parameter limit
+
+    private final int cacheSize;
+    private final int timeLimitSec;
+    private final Map<Integer, Question> cache;           // guarded by this; access order = LRU
+    private final Map<String, int[]> idsByKey = new HashMap<>(); // guarded by this; locale|difficulty -> ids
+
+    public QuestionRepository() {
+        this(Integer.getInteger("quiz.questions.cacheSize", 256), Integer.getInteger("quiz.questions.timeLimitSec", 30));
+    }
+
+    public QuestionRepository(int cacheSize, int timeLimitSec) {
+        this.cacheSize = Math.max(1, cacheSize);
+        this.timeLimitSec = Math.max(0, timeLimitSec);
+        this.cache = new LinkedHashMap<Integer, Question>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Question> eldest) {
+                return size() > QuestionRepository.this.cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Number of questions for a language and difficulty (loads the id list on first use).
+     */
+    public int count(String locale, Difficulty difficulty) {
+        return ids(locale, difficulty).length;
+    }
+
+    /**
+     * Up to n distinct random question ids of one language and difficulty, in O(n)
+     * (the id list is not copied; see {@link QuestionSampler}).
+     */
+    public List<Integer> pickIds(String locale, Difficulty difficulty, int n, SplittableRandom random) {
+        int[] picks = QuestionSampler.sample(ids(locale, difficulty), n, random);
+        List<Integer> list = new ArrayList<>(picks.length);
+        for (int id : picks) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    /**
+     * One question, from the cache or the DB; null if the id does not exist.
+     */
+    public Question findById(int id) {
+        List<Question> found = findByIds(Collections.singletonList(id));
+        return found.get(0);
+    }
+
+    /**
+     * Questions in the order of the given ids (null for unknown ids). Cache misses are read with one IN query.
+     */
+    public List<Question> findByIds(List<Integer> ids) {
+        Map<Integer, Question> result = new HashMap<>();
+        List<Integer> missing = new ArrayList<>();
+        synchronized (this) {
+            for (Integer id : ids) {
+                Question q = cache.get(id);
+                if (q != null) {
+                    result.put(id, q);
+                } else {
+                    missing.add(id);
+                }
+            }
+        }
+        for (int from = 0; from < missing.size(); from += MAX_IDS_PER_QUERY) {
+            Map<Integer, Question> loaded = load(missing.subList(from, Math.min(missing.size(), from + MAX_IDS_PER_QUERY)));
+            synchronized (this) {
+                cache.putAll(loaded);
+            }
+            result.putAll(loaded);
+        }
+        List<Question> list = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            list.add(result.get(id));
+        }
+        return list;
+    }
+
+    /** Forget cached ids and rows (after the bank was edited). */
+    public synchronized void invalidate() {
+        cache.clear();
+        idsByKey.clear();
+    }
+
+    public synchronized int cachedCount() {
+        return cache.size();
+    }
+
+    private synchronized int[] ids(String locale, Difficulty difficulty) {
+        String key = locale + "|" + difficulty.code();
+        int[] ids = idsByKey.get(key);
+        if (ids == null) {
+            ids = loadIds(locale, difficulty);
+            idsByKey.put(key, ids);
+        }
+        return ids;
+    }
+
+    private static int[] loadIds(String locale, Difficulty difficulty) {
+        String sql = "SELECT id FROM questions WHERE locale = ? AND difficulty = ? ORDER BY id";
+        int[] ids = new int[64];
+        int n = 0;
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, locale);
+            ps.setString(2, difficulty.code());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    if (n == ids.length) {
+                        ids = Arrays.copyOf(ids, n * 2);
+                    }
+                    ids[n++] = rs.getInt(1);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("[DB] load question ids failed: " + e.getMessage());
+        }
+        return Arrays.copyOf(ids, n);
+    }
+
+    private Map<Integer, Question> load(List<Integer> ids) {
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS).append(" WHERE id IN (");
+        for (int i = 0; i < ids.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(')');
+
+        Map<Integer, Question> map = new HashMap<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < ids.size(); i++) {
+                ps.setInt(i + 1, ids.get(i));
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    map.put(rs.getInt(1), toQuestion(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("[DB] load questions failed: " + e.getMessage());
+        }
+        return map;
+    }
+
+    private Question toQuestion(ResultSet rs) throws SQLException {
+        Difficulty difficulty = Difficulty.fromCode(rs.getString(2));
+        String text = rs.getString(3);
+        String answer = rs.getString(4);
+        String options = rs.getString(5);
+        String hint = rs.getString(6);
+
+        Question q = options != null
+                ? new MultipleChoiceQuestion(text, answer, options.split("\\|"), difficulty)
+                : new BasicQuestion(text, answer, difficulty);
+        if (hint != null && !hint.isEmpty()) {
+            q = new HintQuestion(q, hint);
+        }
+        return timeLimitSec > 0 ? new TimedQuestion(q, timeLimitSec) : q;
+    }
+}
@@ -0,0 +1,356 @@
+package main.repository;
+
+import main.db.Database;
+import main.model.Result;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming bulk loader for results exported from other classrooms.
+ * - Reads CSV (header row required) or JSONL (one flat JSON object per line) line by line
+ * - One connection, one PreparedStatement, addBatch/executeBatch, commit every chunkSize rows
+ * - Bad lines (including a played_at that is not UTC "yyyy-MM-dd HH:mm:ss") are skipped and counted, not fatal
+ *
+ * Fields: player_name, strategy, score, total_questions, correct_answers, duration_sec, played_at (optional)
+ *
+ * Command line: java -cp "bin;lib\sqlite-jdbc.jar" main.repository.ResultImporter results.csv
+ */
+public class ResultImporter {
+    private static final int MAX_LOGGED_ERRORS = 10;
+
+    private final int chunkSize;
+
+    public ResultImporter() {
+        this(5000);
+    }
+
+    public ResultImporter(int chunkSize) {
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /** Import by file extension: .csv, otherwise JSONL. */
+    public ImportReport importFile(Path file) throws IOException, SQLException {
+        String name = file.getFileName().toString().toLowerCase();
+        return name.endsWith(".csv") ? importCsv(file) : importJsonl(file);
+    }
+
+    public ImportReport importCsv(Path file) throws IOException, SQLException {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = in.readLine();
+            if (header == null) {
+                return new ImportReport(0, 0, 0);
+            }
+            List<String> columns = parseCsvLine(stripBom(header));
+            return load(in, line -> {
+                List<String> values = parseCsvLine(line);
+                if (values.size() < columns.size()) {
+                    throw new IllegalArgumentException("expected " + columns.size() + " fields, got " + values.size());
+                }
+                Map<String, String> fields = new HashMap<>();
+                for (int i = 0; i < columns.size(); i++) {
+                    fields.put(columns.get(i).trim(), values.get(i));
+                }
+                return fields;
+            });
+        }
+    }
+
+    public ImportReport importJsonl(Path file) throws IOException, SQLException {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return load(in, line -> new FlatJsonParser(stripBom(line)).parseObject());
+        }
+    }
+
+    private ImportReport load(BufferedReader in, LineParser parser) throws IOException, SQLException {
+        long start = System.nanoTime();
+        long imported = 0;
+        long skipped = 0;
+        int lineNo = 1;
+        int inChunk = 0;
+
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(ResultRepository.INSERT_SQL)) {
+            conn.setAutoCommit(false);
+            try {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    lineNo++;
+                    if (line.trim().isEmpty()) {
+                        continue;
+                    }
+                    Result r;
+                    try {
+                        r = toResult(parser.parse(line));
+                    } catch (RuntimeException e) {
+                        if (skipped++ < MAX_LOGGED_ERRORS) {
+                            System.err.println("[DB] import: skipping line " + lineNo + ": " + e.getMessage());
+                        }
+                        continue;
+                    }
+                    ResultRepository.bindInsert(ps, r);
+                    ps.addBatch();
+                    if (++inChunk == chunkSize) {
+                        ps.executeBatch();
+                        conn.commit();
+                        imported += inChunk;
+                        inChunk = 0;
+                    }
+                }
+                ps.executeBatch();
+                conn.commit();
+                imported += inChunk;
+            } catch (SQLException | IOException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                // cached top rows may be outranked by imported ones
+                LeaderboardCache.getInstance().invalidate();
+            }
+        }
+        return new ImportReport(imported, skipped, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static Result toResult(Map<String, String> f) {
+        Result r = new Result(
+            required(f, "player_name"),
+            required(f, "strategy"),
+            Integer.parseInt(required(f, "score").trim()),
+            Integer.parseInt(required(f, "total_questions").trim()),
+            Integer.parseInt(required(f, "correct_answers").trim()),
+            Long.parseLong(required(f, "duration_sec").trim())
+        );
+        String playedAt = f.get("played_at");
+        if (playedAt != null && !playedAt.trim().isEmpty()) {
+            r.setPlayedAt(checkPlayedAt(playedAt.trim()));
+        }
+        return r;
+    }
+
+    /**
+     * played_at must be UTC "yyyy-MM-dd HH:mm:ss" exactly: ranking, page boundaries and the
+     * rollup date() keys compare it as a string. Throws (line is skipped) otherwise.
+     */
+    private static String checkPlayedAt(String playedAt) {
+        LocalDateTime t;
+        try {
+            t = LocalDateTime.parse(playedAt, ResultStore.PLAYED_AT_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("bad played_at \"" + playedAt + "\" (expected yyyy-MM-dd HH:mm:ss)");
+        }
+        if (!t.format(ResultStore.PLAYED_AT_FORMAT).equals(playedAt)) {
+            throw new IllegalArgumentException("bad played_at \"" + playedAt + "\" (not a valid date)");
+        }
+        return playedAt;
+    }
+
+    private static String required(Map<String, String> f, String key) {
+        String v = f.get(key);
+        if (v == null) {
+            throw new IllegalArgumentException("missing " + key);
+        }
+        return v;
+    }
+
+    private static String stripBom(String s) {
+        return !s.isEmpty() && s.charAt(0) == '\uFEFF' ? s.substring(1) : s;
+    }
+
+    /**
+     * Split one CSV line; supports "quoted, fields" and "" escapes (no embedded newlines).
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> out = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                out.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        out.add(field.toString());
+        return out;
+    }
+
+    private interface LineParser {
+        Map<String, String> parse(String line);
+    }
+
+    /** Rows imported, lines skipped, and throughput of one import run. */
+    public static final class ImportReport {
+        private final long imported;
+        private final long skipped;
+        private final long elapsedMs;
+
+        ImportReport(long imported, long skipped, long elapsedMs) {
+            this.imported = imported;
+            this.skipped = skipped;
+            this.elapsedMs = elapsedMs;
+        }
+
+        public long getImported() { return imported; }
+        public long getSkipped() { return skipped; }
+        public long getElapsedMs() { return elapsedMs; }
+
+        public double getRowsPerSecond() {
+            return elapsedMs == 0 ? imported * 1000.0 : imported * 1000.0 / elapsedMs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("imported %d rows (%d skipped) in %d ms, %.0f rows/s",
+                    imported, skipped, elapsedMs, getRowsPerSecond());
+        }
+    }
+
+    /**
+     * Minimal parser for one flat JSON object: string, number, boolean and null values.
+     */
+    static final class FlatJsonParser {
+        private final String s;
+        private int pos;
+
+        FlatJsonParser(String s) {
+            this.s = s;
+        }
+
+        Map<String, String> parseObject() {
+            Map<String, String> out = new HashMap<>();
+            expect('{');
+            skipWs();
+            if (peek() == '}') {
+                pos++;
+                return out;
+            }
+            while (true) {
+                skipWs();
+                String key = parseString();
+                skipWs();
+                expect(':');
+                skipWs();
+                out.put(key, parseValue());
+                skipWs();
+                char c = next();
+                if (c == '}') {
+                    return out;
+                }
+                if (c != ',') {
+                    throw new IllegalArgumentException("expected ',' or '}' at " + (pos - 1));
+                }
+            }
+        }
+
+        private String parseValue() {
+            char c = peek();
+            if (c == '"') {
+                return parseString();
+            }
+            int start = pos;
+            while (pos < s.length() && ",}] \t".indexOf(s.charAt(pos)) < 0) {
+                pos++;
+            }
+            String literal = s.substring(start, pos);
+            if (literal.isEmpty() || c == '{' || c == '[') {
+                throw new IllegalArgumentException("unsupported value at " + start);
+            }
+            return "null".equals(literal) ? null : literal;
+        }
+
+        private String parseString() {
+            expect('"');
+            StringBuilder sb = new StringBuilder();
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                char e = next();
+                switch (e) {
+                    case 'n': sb.append('\n'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'u':
+                        if (pos + 4 > s.length()) {
+                            throw new IllegalArgumentException("bad \\u escape");
+                        }
+                        sb.append((char) Integer.parseInt(s.substring(pos, pos + 4), 16));
+                        pos += 4;
+                        break;
+                    default: sb.append(e); break; // \" \\ \/
+                }
+            }
+        }
+
+        private void skipWs() {
+            while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private char peek() {
+            if (pos >= s.length()) {
+                throw new IllegalArgumentException("unexpected end of line");
+            }
+            return s.charAt(pos);
+        }
+
+        private char next() {
+            char c = peek();
+            pos++;
+            return c;
+        }
+
+        private void expect(char c) {
+            if (next() != c) {
+                throw new IllegalArgumentException("expected '" + c + "' at " + (pos - 1));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.out.println("Usage: ResultImporter <file.csv|file.jsonl> [chunkSize]");
+            return;
+        }
+        int chunk = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        ImportReport report = new ResultImporter(chunk).importFile(Paths.get(args[0]));
+        System.out.println("[DB] " + report);
+        Database.shutdown();
+    }
+}
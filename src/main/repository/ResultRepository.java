@@ -1,26 +1,44 @@
 package main.repository;
 
 import main.db.Database;
+import main.model.PlayerStats;
 import main.model.Result;
 
 import java.sql.*;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
-public class ResultRepository {
+/**
+ * SQLite backend of {@link ResultStore} (the default); top lists are served from {@link LeaderboardCache}.
+ */
+public class ResultRepository implements ResultStore {
 
+    static final String INSERT_SQL =
+            "INSERT INTO results(player_name, strategy, score, total_questions, correct_answers, duration_sec, played_at) " +
+            "VALUES(?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String COLUMNS =
+            "id, player_name, strategy, score, total_questions, correct_answers, duration_sec, played_at";
+
+    // Leaderboard order; matches idx_results_score_played_at (rowid ascending breaks ties)
+    private static final String RANKING_ORDER = "score DESC, played_at DESC, id ASC";
+
+    private final LeaderboardCache leaderboard = LeaderboardCache.getInstance();
+
+    @Override
     public boolean save(Result r) {
-        String sql = "INSERT INTO results(player_name, strategy, score, total_questions, correct_answers, duration_sec) " +
-                     "VALUES(?, ?, ?, ?, ?, ?)";
         try (Connection conn = Database.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, r.getPlayerName());
-            ps.setString(2, r.getStrategy());
-            ps.setInt(3, r.getScore());
-            ps.setInt(4, r.getTotalQuestions());
-            ps.setInt(5, r.getCorrectAnswers());
-            ps.setLong(6, r.getDurationSec());
-            return ps.executeUpdate() == 1;
+             PreparedStatement ps = conn.prepareStatement(INSERT_SQL)) {
+            bindInsert(ps, r);
+            if (ps.executeUpdate() != 1) {
+                return false;
+            }
+            r.setId((int) lastInsertId(conn));
+            leaderboard.onInsert(r);
+            return true;
         } catch (SQLException e) {
             // log minimal; avoid crashing GUI
             System.err.println("[DB] save result failed: " + e.getMessage());
@@ -28,40 +46,249 @@ public class ResultRepository {
         }
     }
 
+    /**
+     * Insert many results in a single transaction (all or nothing).
+     */
+    @Override
+    public boolean saveAll(List<Result> results) {
+        if (results.isEmpty()) {
+            return true;
+        }
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(INSERT_SQL)) {
+            conn.setAutoCommit(false);
+            try {
+                for (Result r : results) {
+                    bindInsert(ps, r);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                // AUTOINCREMENT ids are consecutive while this transaction holds the write lock
+                long firstId = lastInsertId(conn) - results.size() + 1;
+                conn.commit();
+                for (int i = 0; i < results.size(); i++) {
+                    Result r = results.get(i);
+                    r.setId((int) (firstId + i));
+                    leaderboard.onInsert(r);
+                }
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            System.err.println("[DB] saveAll failed (" + results.size() + " rows): " + e.getMessage());
+            return false;
+        }
+    }
+
+    static void bindInsert(PreparedStatement ps, Result r) throws SQLException {
+        stampPlayedAt(r);
+        ps.setString(1, r.getPlayerName());
+        ps.setString(2, r.getStrategy());
+        ps.setInt(3, r.getScore());
+        ps.setInt(4, r.getTotalQuestions());
+        ps.setInt(5, r.getCorrectAnswers());
+        ps.setLong(6, r.getDurationSec());
+        ps.setString(7, r.getPlayedAt());
+    }
+
+    /** Set played_at to the current UTC time if the caller left it empty. */
+    static void stampPlayedAt(Result r) {
+        if (r.getPlayedAt() == null) {
+            r.setPlayedAt(LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS).format(PLAYED_AT_FORMAT));
+        }
+    }
+
+    private static long lastInsertId(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT last_insert_rowid()")) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Top results by score; served from the in-memory leaderboard when it is large enough.
+     */
+    @Override
     public List<Result> listTop(int limit) {
-        String sql = "SELECT id, player_name, strategy, score, total_questions, correct_answers, duration_sec, played_at " +
-                     "FROM results ORDER BY score DESC, played_at DESC LIMIT ?";
+        try {
+            if (limit <= leaderboard.capacity()) {
+                return leaderboard.top(limit, this::queryTop);
+            }
+            return queryTop(limit);
+        } catch (SQLException e) {
+            System.err.println("[DB] listTop failed: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Top results of the current day/week (best attempt per player), or all-time.
+     * Windowed reads are a range of the rollup index plus one id lookup per row.
+     */
+    @Override
+    public List<Result> listTop(LeaderboardWindow window, int limit) {
+        if (window == LeaderboardWindow.ALL_TIME) {
+            return listTop(limit);
+        }
+        String sql = "SELECT " + prefixed("r.", COLUMNS) + " FROM " + window.table + " w " +
+                     "JOIN results r ON r.id = w.result_id " +
+                     "WHERE w." + window.keyColumn + " = " + window.currentKey + " " +
+                     "ORDER BY w.best_score DESC, w.played_at DESC, w.result_id ASC LIMIT ?";
         List<Result> list = new ArrayList<>();
         try (Connection conn = Database.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, limit);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    Result r = new Result(
-                        rs.getString("player_name"),
-                        rs.getString("strategy"),
-                        rs.getInt("score"),
-                        rs.getInt("total_questions"),
-                        rs.getInt("correct_answers"),
-                        rs.getLong("duration_sec")
-                    );
-                    r.setId(rs.getInt("id"));
-                    r.setPlayedAt(rs.getString("played_at"));
-                    list.add(r);
+                    list.add(mapRow(rs));
                 }
             }
         } catch (SQLException e) {
-            System.err.println("[DB] listTop failed: " + e.getMessage());
+            System.err.println("[DB] listTop(" + window + ") failed: " + e.getMessage());
         }
         return list;
     }
+
+    private static String prefixed(String prefix, String columns) {
+        return prefix + columns.replace(", ", ", " + prefix);
+    }
+
+    private List<Result> queryTop(int limit) throws SQLException {
+        String sql = "SELECT " + COLUMNS + " FROM results ORDER BY " + RANKING_ORDER + " LIMIT ?";
+        List<Result> list = new ArrayList<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    list.add(mapRow(rs));
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Keyset pagination over the full ranking (score DESC, played_at DESC, id ASC).
+     * Seeks in idx_results_score_played_at from the last row of the previous page,
+     * so every page costs the same no matter how deep it is (no OFFSET).
+     *
+     * @param after    last row of the previous page, or null for the first page
+     * @param pageSize rows per page
+     */
+    @Override
+    public List<Result> listTopPage(Result after, int pageSize) {
+        if (after == null) {
+            return listTop(pageSize);
+        }
+        // One exact index seek per branch (same second / same score / lower score),
+        // merged in index order, so long runs of tied scores are never rescanned
+        String sql = "SELECT " + COLUMNS + " FROM (" +
+                     "SELECT " + COLUMNS + " FROM results WHERE score = ? AND played_at = ? AND id > ? " +
+                     "UNION ALL SELECT " + COLUMNS + " FROM results WHERE score = ? AND played_at < ? " +
+                     "UNION ALL SELECT " + COLUMNS + " FROM results WHERE score < ?" +
+                     ") ORDER BY " + RANKING_ORDER + " LIMIT ?";
+        List<Result> list = new ArrayList<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, after.getScore());
+            ps.setString(2, after.getPlayedAt());
+            ps.setInt(3, after.getId());
+            ps.setInt(4, after.getScore());
+            ps.setString(5, after.getPlayedAt());
+            ps.setInt(6, after.getScore());
+            ps.setInt(7, pageSize);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    list.add(mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("[DB] listTopPage failed: " + e.getMessage());
+        }
+        return list;
+    }
+
+    /**
+     * A player's most recent attempts, newest first (seeks idx_results_player_played_at).
+     */
+    @Override
+    public List<Result> listRecentByPlayer(String playerName, int limit) {
+        String sql = "SELECT " + COLUMNS + " FROM results WHERE player_name = ? " +
+                     "ORDER BY played_at DESC LIMIT ?";
+        List<Result> list = new ArrayList<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, playerName);
+            ps.setInt(2, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    list.add(mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("[DB] listRecentByPlayer failed: " + e.getMessage());
+        }
+        return list;
+    }
+
+    /**
+     * Attempt count, best and average score for one player; only that player's
+     * index range of idx_results_player_played_at is visited.
+     */
+    @Override
+    public PlayerStats getPlayerStats(String playerName) {
+        // raw rows plus the per-day summaries of rows moved out by RetentionJob
+        String sql = "SELECT SUM(n), MAX(best), SUM(total), MAX(last) FROM (" +
+                     "SELECT COUNT(*) AS n, MAX(score) AS best, SUM(score) AS total, MAX(played_at) AS last " +
+                     "FROM results WHERE player_name = ? " +
+                     "UNION ALL " +
+                     "SELECT SUM(attempts), MAX(best_score), SUM(total_score), MAX(day) " +
+                     "FROM results_daily_summary WHERE player_name = ?)";
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, playerName);
+            ps.setString(2, playerName);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    int attempts = rs.getInt(1);
+                    double average = attempts == 0 ? 0 : rs.getLong(3) / (double) attempts;
+                    return new PlayerStats(playerName, attempts, rs.getInt(2), average, rs.getString(4));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("[DB] getPlayerStats failed: " + e.getMessage());
+        }
+        return new PlayerStats(playerName, 0, 0, 0, null);
+    }
+
+    private static Result mapRow(ResultSet rs) throws SQLException {
+        Result r = new Result(
+            rs.getString("player_name"),
+            rs.getString("strategy"),
+            rs.getInt("score"),
+            rs.getInt("total_questions"),
+            rs.getInt("correct_answers"),
+            rs.getLong("duration_sec")
+        );
+        r.setId(rs.getInt("id"));
+        r.setPlayedAt(rs.getString("played_at"));
+        return r;
+    }
     
+    @Override
     public boolean deleteById(int id) {
         String sql = "DELETE FROM results WHERE id = ?";
         try (Connection conn = Database.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, id);
-            return ps.executeUpdate() == 1;
+            if (ps.executeUpdate() != 1) {
+                return false;
+            }
+            leaderboard.onDelete(id);
+            return true;
         } catch (SQLException e) {
             System.err.println("[DB] deleteById failed: " + e.getMessage());
             return false;
@@ -0,0 +1,83 @@
+package main.repository;
+
+import main.model.PlayerStats;
+import main.model.Result;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Storage backend for quiz results.
+ * - {@link ResultRepository}: SQLite (Database/data/quiz.db), the default
+ * - {@link InMemoryResultStore}: nothing persisted; for tests, demos and benchmarks
+ * - {@link AppendLogResultStore}: append-only JSONL file, replayed into memory on open
+ * - {@link MappedJournalResultStore}: memory-mapped binary journal, replayed into memory on open
+ *
+ * All backends rank by score DESC, played_at DESC, id ASC, assign ids and
+ * fill in played_at (UTC "yyyy-MM-dd HH:mm:ss") when it is missing.
+ *
+ * Settings (JVM system properties):
+ * - quiz.store             sqlite | memory | log | journal (default sqlite)
+ * - quiz.store.logFile     log file of the "log" backend (default Database/data/results.log)
+ * - quiz.store.journalFile journal of the "journal" backend (default Database/data/results.journal)
+ */
+public interface ResultStore {
+    /** played_at (and answers.answered_at) format, always UTC; same as SQLite datetime('now'). */
+    DateTimeFormatter PLAYED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    boolean save(Result r);
+
+    /** Insert many results at once (all or nothing where the backend supports it). */
+    boolean saveAll(List<Result> results);
+
+    List<Result> listTop(int limit);
+
+    /** Best attempt per player in the current day/week, or the all-time top list. */
+    List<Result> listTop(LeaderboardWindow window, int limit);
+
+    /** Next page of the ranking after the last row of the previous page (null for the first page). */
+    List<Result> listTopPage(Result after, int pageSize);
+
+    /** A player's most recent attempts, newest first. */
+    List<Result> listRecentByPlayer(String playerName, int limit);
+
+    PlayerStats getPlayerStats(String playerName);
+
+    boolean deleteById(int id);
+
+    /** Release files or connections held by the backend. */
+    default void close() {
+    }
+
+    /** Backend selected by -Dquiz.store (see class comment). */
+    static ResultStore fromSystemProperties() {
+        String name = System.getProperty("quiz.store", "sqlite").trim().toLowerCase();
+        switch (name) {
+            case "memory":
+                return new InMemoryResultStore();
+            case "log":
+                String file = System.getProperty("quiz.store.logFile", "Database/data/results.log");
+                try {
+                    return new AppendLogResultStore(Paths.get(file));
+                } catch (IOException e) {
+                    System.err.println("[DB] cannot open result log " + file + ", using sqlite: " + e.getMessage());
+                    return new ResultRepository();
+                }
+            case "journal":
+                String journal = System.getProperty("quiz.store.journalFile", "Database/data/results.journal");
+                try {
+                    return new MappedJournalResultStore(Paths.get(journal));
+                } catch (IOException e) {
+                    System.err.println("[DB] cannot open result journal " + journal + ", using sqlite: " + e.getMessage());
+                    return new ResultRepository();
+                }
+            case "sqlite":
+                return new ResultRepository();
+            default:
+                System.err.println("[DB] unknown quiz.store '" + name + "', using sqlite");
+                return new ResultRepository();
+        }
+    }
+}
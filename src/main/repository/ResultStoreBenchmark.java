@@ -0,0 +1,165 @@
+package main.repository;
+
+import main.db.Database;
+import main.model.Result;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs the same workload against every {@link ResultStore} backend and prints microseconds per operation.
+ * - Rows are written as players "bench-0".."bench-99" and deleted again at the end
+ * - Every file-backed backend writes to temporary files that are removed afterwards; the SQLite
+ *   run points quiz.db.file at a scratch database (migrated from Database/scripts), never at quiz.db
+ *
+ * Command line: java -cp "bin;lib\sqlite-jdbc.jar" main.repository.ResultStoreBenchmark [rows] [memory|log|journal|sqlite ...]
+ */
+public class ResultStoreBenchmark {
+    private static final int PLAYERS = 100;
+    private static final int SINGLE_SAVES = 1000;
+    private static final int BATCH = 500;
+    private static final int READS = 2000;
+
+    private final int rows;
+    private final boolean quiet;
+
+    public ResultStoreBenchmark(int rows, boolean quiet) {
+        this.rows = Math.max(SINGLE_SAVES, rows);
+        this.quiet = quiet;
+    }
+
+    public void run(String name, ResultStore store) {
+        Random rnd = new Random(42);
+        List<Integer> ids = new ArrayList<>(rows);
+        if (!quiet) {
+            System.out.println("== " + name + " (" + rows + " rows)");
+        }
+
+        time("save", SINGLE_SAVES, i -> {
+            Result r = newResult(rnd);
+            store.save(r);
+            ids.add(r.getId());
+        });
+        time("saveAll/row", rows - SINGLE_SAVES, i -> {
+            if (i % BATCH == 0) {
+                List<Result> batch = new ArrayList<>(BATCH);
+                for (int j = 0; j < BATCH && i + j < rows - SINGLE_SAVES; j++) {
+                    batch.add(newResult(rnd));
+                }
+                store.saveAll(batch);
+                for (Result r : batch) {
+                    ids.add(r.getId());
+                }
+            }
+        });
+
+        time("listTop(10)", READS, i -> store.listTop(10));
+        time("listTop(100)", READS, i -> store.listTop(100));
+        time("listTop(DAY, 10)", READS / 10, i -> store.listTop(LeaderboardWindow.DAY, 10));
+        time("listTopPage(20) x50 deep", READS / 10, i -> {
+            Result after = null;
+            for (int page = 0; page < 50; page++) {
+                List<Result> rowsOfPage = store.listTopPage(after, 20);
+                if (rowsOfPage.isEmpty()) {
+                    break;
+                }
+                after = rowsOfPage.get(rowsOfPage.size() - 1);
+            }
+        });
+        time("listRecentByPlayer(10)", READS, i -> store.listRecentByPlayer("bench-" + (i % PLAYERS), 10));
+        time("getPlayerStats", READS, i -> store.getPlayerStats("bench-" + (i % PLAYERS)));
+
+        time("deleteById", ids.size(), i -> store.deleteById(ids.get(i)));
+    }
+
+    private static Result newResult(Random rnd) {
+        return new Result("bench-" + rnd.nextInt(PLAYERS), "Normal",
+                rnd.nextInt(150), 10, rnd.nextInt(11), 30 + rnd.nextInt(300));
+    }
+
+    private void time(String op, int n, Op body) {
+        long start = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            body.run(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (quiet) {
+            return;
+        }
+        System.out.printf("  %-26s %10.1f us/op%n", op, n == 0 ? 0 : elapsed / 1000.0 / n);
+    }
+
+    private interface Op {
+        void run(int i);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        List<String> backends = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            backends.add(args[i].toLowerCase());
+        }
+        if (backends.isEmpty()) {
+            backends = Arrays.asList("memory", "log", "journal", "sqlite");
+        }
+        Path db = null;
+        if (backends.contains("sqlite")) {
+            // before the first use of Database, which reads quiz.db.file once
+            db = Files.createTempFile("results-bench", ".db");
+            System.setProperty("quiz.db.file", db.toString());
+        }
+
+        for (String backend : backends) {
+            // short untimed pass first, so JIT and first-touch file pages are not measured
+            runBackend(backend, new ResultStoreBenchmark(rows / 10, true));
+            runBackend(backend, new ResultStoreBenchmark(rows, false));
+        }
+        if (db != null) {
+            Database.shutdown();
+            for (String suffix : new String[] {"", "-wal", "-shm", "-journal"}) {
+                Files.deleteIfExists(db.resolveSibling(db.getFileName() + suffix));
+            }
+        }
+    }
+
+    private static void runBackend(String backend, ResultStoreBenchmark bench) throws IOException {
+        switch (backend) {
+            case "memory":
+                bench.run(backend, new InMemoryResultStore());
+                break;
+            case "log":
+                Path file = Files.createTempFile("results-bench", ".log");
+                AppendLogResultStore log = new AppendLogResultStore(file);
+                try {
+                    bench.run(backend, log);
+                } finally {
+                    log.close();
+                    Files.deleteIfExists(file);
+                }
+                break;
+            case "journal":
+                Path journal = Files.createTempFile("results-bench", ".journal");
+                MappedJournalResultStore store = new MappedJournalResultStore(journal);
+                try {
+                    bench.run(backend, store);
+                } finally {
+                    store.close();
+                    Files.deleteIfExists(journal);
+                    Files.deleteIfExists(journal.resolveSibling(journal.getFileName() + ".dict"));
+                }
+                break;
+            case "sqlite":
+                bench.run(backend, new ResultRepository());
+                break;
+            default:
+                if (!bench.quiet) {
+                    System.out.println("Unknown backend: " + backend + " (memory | log | journal | sqlite)");
+                }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package main.repository;
+
+import main.model.Result;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous write-behind writer for quiz results.
+ * - submit() only enqueues, so the caller (Swing EDT) never waits on the DB
+ * - A background thread group-commits queued results in one transaction,
+ *   when maxBatch rows are waiting or flushIntervalMs has passed
+ * - flush() / shutdown() drain the queue so nothing is lost on exit
+ * - A batch that fails (e.g. database locked) is retried, then saved row by row ({@link BatchRetry});
+ *   results are never dropped. Rows that still fail are spilled to an append-only JSONL file,
+ *   which ResultImporter can load later, so one bad row never blocks the queue
+ *
+ * Settings (JVM system properties):
+ * - quiz.store.spillFile results that could not be saved (default Database/data/results-unsaved.log)
+ */
+public class ResultWriter {
+    // Marker pushed by flush()/shutdown() to close the current batch early
+    private static final Result FLUSH_MARKER = new Result("", "", 0, 0, 0, 0);
+
+    private final ResultStore repository;
+    private final int maxBatch;
+    private final long flushIntervalMs;
+    private final Path spillFile;
+    private final BlockingQueue<Result> queue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+
+    private volatile boolean running = true;
+    private long submitted; // guarded by this
+    private long processed; // guarded by this
+
+    public ResultWriter(ResultStore repository) {
+        this(repository, 64, 200);
+    }
+
+    public ResultWriter(ResultStore repository, int maxBatch, long flushIntervalMs) {
+        this.repository = repository;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.flushIntervalMs = Math.max(1, flushIntervalMs);
+        this.spillFile = Paths.get(System.getProperty("quiz.store.spillFile", "Database/data/results-unsaved.log"));
+        this.worker = new Thread(this::runLoop, "result-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queue a result for writing. Falls back to a synchronous save after shutdown.
+     */
+    public void submit(Result r) {
+        synchronized (this) {
+            if (running) {
+                submitted++;
+                queue.add(r);
+                return;
+            }
+        }
+        if (!repository.save(r)) {
+            spill(Collections.singletonList(r));
+        }
+    }
+
+    /**
+     * Block until everything submitted so far has been written (or the timeout passes).
+     * @return true if the queue was drained in time
+     */
+    public boolean flush(long timeoutMs) {
+        long target;
+        synchronized (this) {
+            target = submitted;
+            if (processed >= target) {
+                return true;
+            }
+        }
+        queue.add(FLUSH_MARKER);
+        return awaitProcessed(target, timeoutMs);
+    }
+
+    public boolean flush() {
+        return flush(5000);
+    }
+
+    /**
+     * Stop accepting new results, write everything still queued and stop the worker.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+        }
+        queue.add(FLUSH_MARKER);
+        try {
+            worker.join(10_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public synchronized int pendingCount() {
+        return (int) (submitted - processed);
+    }
+
+    private synchronized boolean awaitProcessed(long target, long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (processed < target) {
+            long wait = deadline - System.currentTimeMillis();
+            if (wait <= 0 || !worker.isAlive()) {
+                return false;
+            }
+            try {
+                wait(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void runLoop() {
+        List<Result> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                Result first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null || first == FLUSH_MARKER) {
+                    continue;
+                }
+                batch.add(first);
+
+                // collect more rows until the batch is full, the window closes, or a flush arrives
+                long deadline = System.currentTimeMillis() + flushIntervalMs;
+                while (batch.size() < maxBatch) {
+                    long wait = deadline - System.currentTimeMillis();
+                    Result next = wait > 0 ? queue.poll(wait, TimeUnit.MILLISECONDS) : null;
+                    if (next == null || next == FLUSH_MARKER) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // keep draining; shutdown() is the only way out of the loop
+            }
+
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<Result> batch) {
+        BatchRetry.write("result writer", batch, repository::saveAll, this::spill);
+        synchronized (this) {
+            processed += batch.size();
+            notifyAll();
+        }
+    }
+
+    /** Last resort for results the store would not take: append them to the spill file. */
+    private synchronized void spill(List<Result> batch) {
+        AppendLogResultStore log = null;
+        try {
+            log = new AppendLogResultStore(spillFile);
+            if (log.saveAll(batch)) {
+                System.err.println("[DB] result writer: " + batch.size() + " results saved to " + spillFile
+                        + " (load them with ResultImporter)");
+                return;
+            }
+        } catch (IOException e) {
+            System.err.println("[DB] result writer: cannot open " + spillFile + ": " + e.getMessage());
+        } finally {
+            if (log != null) {
+                log.close();
+            }
+        }
+        for (Result r : batch) {
+            System.err.println("[DB] result writer: unsaved result " + r.getPlayerName() + ", " + r.getStrategy()
+                    + ", score " + r.getScore() + ", " + r.getCorrectAnswers() + "/" + r.getTotalQuestions()
+                    + ", " + r.getDurationSec() + " s, " + r.getPlayedAt());
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package main.repository;
+
+import main.db.Database;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Retention job for the results table.
+ * - Rows older than maxAgeDays are folded into results_daily_summary (one row per player per day)
+ *   and deleted from results, batchSize rows per short transaction
+ * - Raw rows can be archived first to a gzip-compressed JSONL file (same format as ResultExporter);
+ *   each batch is flushed through the deflater and fsynced before its rows are deleted
+ * - Before a batch is archived, its ids and the archive length are fsynced to retention.pending.
+ *   If the DELETE does not commit (error, crash), the archive is cut back to that length (at once,
+ *   or by the next run), so rows that stay in results are never archived twice
+ * - Freed pages are returned to the OS with PRAGMA incremental_vacuum in small slices,
+ *   pausing between slices so concurrent writers are never blocked for long. This needs
+ *   auto_vacuum=INCREMENTAL (new databases get it); older files are only converted by the
+ *   explicit --enable-incremental-vacuum command (one full VACUUM), never by the job itself
+ * - Interrupting the thread stops the job between batches; committed batches stay archived
+ *
+ * Settings (JVM system properties):
+ * - quiz.retention.days        keep this many days of raw rows; 0 disables the job (default 0)
+ * - quiz.retention.archiveDir  write archives here; unset = no archive
+ * - quiz.retention.batchSize   rows per transaction (default 500)
+ * - quiz.retention.vacuumPages pages per incremental_vacuum slice (default 256)
+ *
+ * Command line: java -Dquiz.retention.days=365 -cp "bin;lib\sqlite-jdbc.jar" main.repository.RetentionJob
+ *               java -cp "bin;lib\sqlite-jdbc.jar" main.repository.RetentionJob --enable-incremental-vacuum
+ */
+public class RetentionJob {
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final long SLICE_PAUSE_MS = 50;
+    private static final String PENDING_FILE = "retention.pending";
+
+    // The oldest batch of expired rows; deterministic, so every statement of a transaction sees the same set
+    private static final String BATCH =
+            "SELECT id FROM results WHERE played_at < ? ORDER BY played_at, id LIMIT ?";
+
+    private static final String SUMMARIZE_SQL =
+            "INSERT INTO results_daily_summary(day, player_name, attempts, best_score, total_score, " +
+            "total_correct, total_questions, total_duration_sec) " +
+            "SELECT date(played_at, 'localtime'), player_name, COUNT(*), MAX(score), SUM(score), " +
+            "SUM(correct_answers), SUM(total_questions), SUM(duration_sec) " +
+            "FROM results WHERE id IN (" + BATCH + ") GROUP BY 1, 2 " +
+            "ON CONFLICT(day, player_name) DO UPDATE SET " +
+            "attempts = attempts + excluded.attempts, " +
+            "best_score = MAX(best_score, excluded.best_score), " +
+            "total_score = total_score + excluded.total_score, " +
+            "total_correct = total_correct + excluded.total_correct, " +
+            "total_questions = total_questions + excluded.total_questions, " +
+            "total_duration_sec = total_duration_sec + excluded.total_duration_sec";
+
+    private final int maxAgeDays;
+    private final Path archiveDir;
+    private final int batchSize;
+    private final int vacuumPages;
+
+    public RetentionJob(int maxAgeDays, Path archiveDir, int batchSize, int vacuumPages) {
+        this.maxAgeDays = maxAgeDays;
+        this.archiveDir = archiveDir;
+        this.batchSize = Math.max(1, batchSize);
+        this.vacuumPages = Math.max(1, vacuumPages);
+    }
+
+    public static RetentionJob fromSystemProperties() {
+        String dir = System.getProperty("quiz.retention.archiveDir");
+        return new RetentionJob(
+                Integer.getInteger("quiz.retention.days", 0),
+                dir == null || dir.trim().isEmpty() ? null : Paths.get(dir),
+                Integer.getInteger("quiz.retention.batchSize", 500),
+                Integer.getInteger("quiz.retention.vacuumPages", 256));
+    }
+
+    public boolean isEnabled() {
+        return maxAgeDays > 0;
+    }
+
+    /**
+     * Summarize, archive and delete expired rows, then reclaim free pages.
+     * @return number of raw rows moved out of results
+     */
+    public long run() throws SQLException, IOException {
+        if (!isEnabled()) {
+            return 0;
+        }
+        String cutoff = LocalDateTime.now(ZoneOffset.UTC).minusDays(maxAgeDays).format(ResultStore.PLAYED_AT_FORMAT);
+        long start = System.nanoTime();
+        long moved = 0;
+
+        Archive archive = null;
+        boolean stopped = false;
+        try (Connection conn = Database.getConnection()) {
+            if (archiveDir != null) {
+                recoverPending(conn);
+            }
+            boolean vacuumable = isIncrementalVacuum(conn);
+            while (true) {
+                if (Thread.currentThread().isInterrupted()) {
+                    stopped = true;
+                    break;
+                }
+                if (archive == null && archiveDir != null && hasExpired(conn, cutoff)) {
+                    archive = openArchive();
+                }
+                int n = moveBatch(conn, cutoff, archive);
+                if (n == 0) {
+                    break;
+                }
+                moved += n;
+                if (vacuumable) {
+                    vacuumSlice(conn);
+                }
+                if (!pause()) { // let other writers in
+                    stopped = true;
+                    break;
+                }
+            }
+            if (vacuumable && !stopped) {
+                while (vacuumSlice(conn) > 0) {
+                    if (!pause()) {
+                        stopped = true;
+                        break;
+                    }
+                }
+            }
+        } finally {
+            if (archive != null) {
+                archive.close();
+            }
+            if (moved > 0) {
+                LeaderboardCache.getInstance().invalidate();
+            }
+        }
+        System.out.println("[DB] retention: moved " + moved + " rows older than " + cutoff
+                + " UTC in " + (System.nanoTime() - start) / 1_000_000 + " ms" + (stopped ? " (stopped)" : ""));
+        return moved;
+    }
+
+    /** One short transaction: summarize, archive and delete up to batchSize rows. */
+    private int moveBatch(Connection conn, String cutoff, Archive archive) throws SQLException, IOException {
+        long archiveStart = -1; // archive length before this batch, once retention.pending names it
+        conn.setAutoCommit(false);
+        try {
+            // write first: a transaction that starts with a read cannot wait for the write
+            // lock in rollback-journal mode (SQLITE_BUSY instead of busy_timeout)
+            try (PreparedStatement ps = conn.prepareStatement(SUMMARIZE_SQL)) {
+                bindBatch(ps, cutoff);
+                ps.executeUpdate();
+            }
+            if (archive != null) {
+                String sql = "SELECT " + String.join(", ", ResultExporter.FIELDS) +
+                             ", id FROM results WHERE id IN (" + BATCH + ") ORDER BY played_at, id";
+                StringWriter rows = new StringWriter();
+                List<String> ids = new ArrayList<>();
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    bindBatch(ps, cutoff);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            ResultExporter.writeJsonRow(rows, rs);
+                            ids.add(Integer.toString(rs.getInt(ResultExporter.FIELDS.length + 1)));
+                        }
+                    }
+                }
+                if (!ids.isEmpty()) {
+                    long length = archive.length();
+                    writePending(archive.path, length, ids); // on disk before the archive grows
+                    archiveStart = length;
+                    archive.writer.write(rows.toString());
+                    archive.sync(); // on disk before the rows are deleted
+                }
+            }
+            try (PreparedStatement ps = conn.prepareStatement("DELETE FROM results WHERE id IN (" + BATCH + ")")) {
+                bindBatch(ps, cutoff);
+                ps.executeUpdate(); // the driver's count includes rows touched by the rollup triggers
+            }
+            int deleted;
+            try (Statement st = conn.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT changes()")) {
+                deleted = rs.next() ? rs.getInt(1) : 0;
+            }
+            conn.commit();
+            if (archiveStart >= 0) {
+                Files.deleteIfExists(archiveDir.resolve(PENDING_FILE));
+            }
+            return deleted;
+        } catch (SQLException | IOException e) {
+            conn.rollback();
+            if (archiveStart >= 0) {
+                // the rows stay in results: take them out of the archive again
+                try {
+                    archive.rollback(archiveStart);
+                    Files.deleteIfExists(archiveDir.resolve(PENDING_FILE));
+                } catch (IOException ex) {
+                    System.err.println("[DB] retention: archive not cut back (the next run does it): " + ex.getMessage());
+                }
+            }
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private void bindBatch(PreparedStatement ps, String cutoff) throws SQLException {
+        ps.setString(1, cutoff);
+        ps.setInt(2, batchSize);
+    }
+
+    private static boolean hasExpired(Connection conn, String cutoff) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT 1 FROM results WHERE played_at < ? LIMIT 1")) {
+            ps.setString(1, cutoff);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /** Sleep between slices; false when the thread was interrupted (job stopped). */
+    private static boolean pause() {
+        try {
+            Thread.sleep(SLICE_PAUSE_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Archive openArchive() throws IOException {
+        Files.createDirectories(archiveDir);
+        Path file = archiveDir.resolve("results-archive-" + LocalDateTime.now().format(FILE_STAMP) + ".jsonl.gz");
+        System.out.println("[DB] retention: archiving raw rows to " + file);
+        return new Archive(file);
+    }
+
+    /** retention.pending: archive file name, its length before the batch, and the batch ids. */
+    private void writePending(Path archive, long length, List<String> ids) throws IOException {
+        String text = archive.getFileName() + "\n" + length + "\n" + String.join(",", ids) + "\n";
+        try (FileChannel ch = FileChannel.open(archiveDir.resolve(PENDING_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                ch.write(bytes);
+            }
+            ch.force(true);
+        }
+    }
+
+    /**
+     * A previous run stopped between archiving a batch and committing its DELETE. If the batch
+     * rows are still in results, cut them off the archive (this run archives them again).
+     * A torn retention.pending means the archive was not written yet.
+     */
+    private void recoverPending(Connection conn) throws IOException, SQLException {
+        Path pending = archiveDir.resolve(PENDING_FILE);
+        if (!Files.exists(pending)) {
+            return;
+        }
+        List<String> lines = Files.readAllLines(pending, StandardCharsets.UTF_8);
+        if (lines.size() >= 3 && lines.get(1).matches("\\d+") && lines.get(2).matches("\\d+(,\\d+)*")) {
+            Path file = archiveDir.resolve(lines.get(0));
+            long length = Long.parseLong(lines.get(1));
+            boolean stillInResults;
+            try (Statement st = conn.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT 1 FROM results WHERE id IN (" + lines.get(2) + ") LIMIT 1")) {
+                stillInResults = rs.next();
+            }
+            if (stillInResults && Files.exists(file) && Files.size(file) > length) {
+                try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    ch.truncate(length);
+                    ch.force(true);
+                }
+                System.out.println("[DB] retention: removed an uncommitted batch from " + file);
+            }
+        }
+        Files.delete(pending);
+    }
+
+    /**
+     * incremental_vacuum only works with auto_vacuum=INCREMENTAL. New databases get it from
+     * Database; older files keep auto_vacuum=NONE and the job skips reclaiming until
+     * {@link #enableIncrementalVacuum()} has been run once.
+     */
+    private static boolean isIncrementalVacuum(Connection conn) {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("PRAGMA auto_vacuum")) {
+            if (rs.next() && rs.getInt(1) == 2) {
+                return true;
+            }
+        } catch (SQLException e) {
+            System.err.println("[DB] retention: cannot read auto_vacuum: " + e.getMessage());
+            return false;
+        }
+        System.out.println("[DB] retention: auto_vacuum is not INCREMENTAL, free pages are kept "
+                + "(run RetentionJob --enable-incremental-vacuum once while the app is closed)");
+        return false;
+    }
+
+    /**
+     * One-off conversion of an older DB file to auto_vacuum=INCREMENTAL. Runs a full VACUUM,
+     * which rewrites quiz.db and blocks every writer, so only run it while the app is closed.
+     */
+    public static void enableIncrementalVacuum() throws SQLException {
+        try (Connection conn = Database.getConnection();
+             Statement st = conn.createStatement()) {
+            st.execute("PRAGMA auto_vacuum=INCREMENTAL");
+            st.execute("VACUUM");
+        }
+        System.out.println("[DB] retention: quiz.db converted to auto_vacuum=INCREMENTAL");
+    }
+
+    /** Free up to vacuumPages pages; returns the number of free pages left. */
+    private int vacuumSlice(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            // executeUpdate runs the pragma to completion; execute() would free only one page per call
+            st.executeUpdate("PRAGMA incremental_vacuum(" + vacuumPages + ")");
+            try (ResultSet rs = st.executeQuery("PRAGMA freelist_count")) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && "--enable-incremental-vacuum".equals(args[0])) {
+            enableIncrementalVacuum();
+            Database.shutdown();
+            return;
+        }
+        RetentionJob job = fromSystemProperties();
+        if (!job.isEnabled()) {
+            System.out.println("Usage: java -Dquiz.retention.days=<days> [-Dquiz.retention.archiveDir=<dir>] main.repository.RetentionJob");
+            return;
+        }
+        job.run();
+        Database.shutdown();
+    }
+
+    /**
+     * Gzip archive file. The deflater uses SYNC_FLUSH, so sync() pushes every row written so far
+     * through the compressor and fsyncs the file: a crash after sync() leaves a readable prefix.
+     */
+    private static final class Archive implements Closeable {
+        private final Path path;
+        private final FileOutputStream file;
+        private final Writer writer;
+        private boolean closed;
+
+        Archive(Path path) throws IOException {
+            this.path = path;
+            this.file = new FileOutputStream(path.toFile());
+            this.writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(file, 64 * 1024, true), StandardCharsets.UTF_8));
+        }
+
+        /** Bytes on disk; after sync() this is a flush point the file can be cut back to. */
+        long length() throws IOException {
+            return file.getChannel().size();
+        }
+
+        void sync() throws IOException {
+            writer.flush();
+            file.getFD().sync();
+        }
+
+        /**
+         * Cut the file back to a length taken after sync() and stop writing to it; the deflater
+         * state no longer matches the file, so it is closed without the gzip trailer.
+         */
+        void rollback(long length) throws IOException {
+            closed = true;
+            try {
+                file.getChannel().truncate(length);
+                file.getFD().sync();
+            } finally {
+                file.close();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                writer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package main.repository;
+
+import main.db.Database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * App settings from the settings table (key, value), cached in memory.
+ * - The first read loads every row with one query; later reads never touch the DB
+ * - Writes update the cache at once and are written back debounceMs after the last change,
+ *   so several changes in a row (e.g. toggling the language back and forth) become one transaction
+ * - A failed write keeps its changes pending and is retried after RETRY_MS (or debounceMs if longer)
+ * - shutdown() lets a running write finish, then writes whatever is still pending
+ *
+ * Settings (JVM system properties):
+ * - quiz.settings.debounceMs delay before changes are written (default 500)
+ */
+public class SettingsRepository {
+    public static final String LANG = "LANG";
+    public static final String LAST_STRATEGY = "LAST_STRATEGY";
+    private static final long RETRY_MS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_SEC = 5;
+
+    private final long debounceMs;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "settings-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private Map<String, String> cache;                         // guarded by this; null until loaded
+    private Map<String, String> dirty = new LinkedHashMap<>(); // guarded by this
+    private ScheduledFuture<?> pendingFlush;                   // guarded by this
+
+    public SettingsRepository() {
+        this(Long.getLong("quiz.settings.debounceMs", 500L));
+    }
+
+    public SettingsRepository(long debounceMs) {
+        this.debounceMs = Math.max(0, debounceMs);
+    }
+
+    public synchronized String get(String key, String defaultValue) {
+        String value = loaded().get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public String getLanguage(String defaultValue) {
+        return get(LANG, defaultValue);
+    }
+
+    public void setLanguage(String lang) {
+        put(LANG, lang);
+    }
+
+    public String getLastStrategy(String defaultValue) {
+        return get(LAST_STRATEGY, defaultValue);
+    }
+
+    public void setLastStrategy(String strategy) {
+        put(LAST_STRATEGY, strategy);
+    }
+
+    /**
+     * Change a setting; the DB write happens debounceMs after the last change.
+     */
+    public synchronized void put(String key, String value) {
+        if (value.equals(loaded().get(key))) {
+            return;
+        }
+        cache.put(key, value);
+        dirty.put(key, value);
+        scheduleFlush(debounceMs); // restart the quiet period
+    }
+
+    /**
+     * Write pending changes now, in one transaction. Failed writes stay pending and are retried.
+     */
+    public void flush() {
+        Map<String, String> batch;
+        synchronized (this) {
+            cancelPendingFlush();
+            if (dirty.isEmpty()) {
+                return;
+            }
+            batch = dirty;
+            dirty = new LinkedHashMap<>();
+        }
+        if (!write(batch)) {
+            synchronized (this) {
+                // newer values written meanwhile win over the failed batch
+                batch.putAll(dirty);
+                dirty = new LinkedHashMap<>(batch);
+                scheduleFlush(Math.max(debounceMs, RETRY_MS));
+            }
+        }
+    }
+
+    /**
+     * Write pending changes and stop the background thread.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            cancelPendingFlush();
+            writer.shutdown();
+        }
+        try {
+            writer.awaitTermination(SHUTDOWN_TIMEOUT_SEC, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    // guarded by this
+    private void scheduleFlush(long delayMs) {
+        cancelPendingFlush();
+        try {
+            pendingFlush = writer.schedule(this::flush, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // shutting down: shutdown() does the final flush
+        }
+    }
+
+    // guarded by this
+    private void cancelPendingFlush() {
+        if (pendingFlush != null) {
+            pendingFlush.cancel(false);
+            pendingFlush = null;
+        }
+    }
+
+    private Map<String, String> loaded() {
+        if (cache == null) {
+            cache = loadAll();
+        }
+        return cache;
+    }
+
+    private static Map<String, String> loadAll() {
+        Map<String, String> map = new HashMap<>();
+        try (Connection conn = Database.getConnection();
+             Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT key, value FROM settings")) {
+            while (rs.next()) {
+                map.put(rs.getString(1), rs.getString(2));
+            }
+        } catch (SQLException e) {
+            // best-effort; callers fall back to their defaults
+            System.err.println("[DB] load settings failed: " + e.getMessage());
+        }
+        return map;
+    }
+
+    private static boolean write(Map<String, String> batch) {
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement("INSERT OR REPLACE INTO settings(key, value) VALUES(?, ?)")) {
+            conn.setAutoCommit(false);
+            try {
+                for (Map.Entry<String, String> e : batch.entrySet()) {
+                    ps.setString(1, e.getKey());
+                    ps.setString(2, e.getValue());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            System.err.println("[DB] save settings failed (" + batch.size() + " keys): " + e.getMessage());
+            return false;
+        }
+    }
+}
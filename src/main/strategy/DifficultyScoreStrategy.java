@@ -1,5 +1,7 @@
 package main.strategy;
 
+import main.question.Difficulty;
+
 /**
  * STRATEGY PATTERN - Concrete Strategy
  * 
@@ -11,22 +13,22 @@ public class DifficultyScoreStrategy implements ScoringStrategy {
     private static final int MEDIUM_SCORE = 10;
     private static final int HARD_SCORE = 15;
     
+    // Bảng điểm theo Difficulty.ordinal(), tính một lần
+    private static final int[] SCORE_BY_DIFFICULTY = new int[Difficulty.values().length];
+    
+    static {
+        SCORE_BY_DIFFICULTY[Difficulty.EASY.ordinal()] = EASY_SCORE;
+        SCORE_BY_DIFFICULTY[Difficulty.MEDIUM.ordinal()] = MEDIUM_SCORE;
+        SCORE_BY_DIFFICULTY[Difficulty.HARD.ordinal()] = HARD_SCORE;
+    }
+    
     /**
      * STRATEGY PATTERN: Implement algorithm cụ thể
-     * Tính điểm dựa trên độ khó của câu hỏi
+     * Tính điểm dựa trên độ khó của câu hỏi (tra bảng, không so sánh chuỗi)
      */
     @Override
-    public int calculateScore(String difficulty, long timeTaken) {
-        switch (difficulty.toLowerCase()) {
-            case "easy":
-                return EASY_SCORE;
-            case "medium":
-                return MEDIUM_SCORE;
-            case "hard":
-                return HARD_SCORE;
-            default:
-                return MEDIUM_SCORE; // Mặc định
-        }
+    public int calculateScore(Difficulty difficulty, long timeTaken) {
+        return SCORE_BY_DIFFICULTY[difficulty.ordinal()];
     }
     
     @Override
@@ -1,5 +1,7 @@
 package main.strategy;
 
+import main.question.Difficulty;
+
 /**
  * STRATEGY PATTERN - Concrete Strategy
  * 
@@ -14,7 +16,7 @@ public class FixedScoreStrategy implements ScoringStrategy {
      * Trả về điểm cố định cho mọi câu trả lời đúng
      */
     @Override
-    public int calculateScore(String difficulty, long timeTaken) {
+    public int calculateScore(Difficulty difficulty, long timeTaken) {
         // Điểm cố định, không phụ thuộc vào difficulty hay timeTaken
         return FIXED_SCORE;
     }
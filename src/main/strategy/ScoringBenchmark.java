@@ -0,0 +1,158 @@
+package main.strategy;
+
+import main.question.Difficulty;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Compares the old string-switched scoring (difficulty.toLowerCase() / equalsIgnoreCase per call)
+ * with the enum-keyed lookup tables of {@link DifficultyScoreStrategy} and {@link SpeedScoreStrategy}:
+ * nanoseconds and bytes allocated per score.
+ * - First checks that both paths give the same score for every difficulty and 0..40 seconds
+ * - Each path scores the same 1024 inputs per call, so the lambda call is not what is measured
+ * - Each path runs an untimed warm-up first, so JIT compilation is not measured
+ * - Bytes per score need a HotSpot JVM (com.sun.management.ThreadMXBean); otherwise "n/a"
+ *
+ * Command line: java -cp bin main.strategy.ScoringBenchmark [iterations]
+ */
+public class ScoringBenchmark {
+    private static final int INPUTS = 1024;
+    private static final int MAX_CHECKED_SECONDS = 40;
+
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+
+        // Same mix for both paths: stored codes (as read from the questions table) and their enums
+        Difficulty[] difficulties = new Difficulty[INPUTS];
+        String[] codes = new String[INPUTS];
+        long[] times = new long[INPUTS];
+        long seed = 42;
+        for (int i = 0; i < INPUTS; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            difficulties[i] = Difficulty.values()[(int) ((seed >>> 33) % 3)];
+            codes[i] = difficulties[i].code();
+            times[i] = (seed >>> 40) % 30;
+        }
+
+        ScoringStrategy difficulty = new DifficultyScoreStrategy();
+        ScoringStrategy speed = new SpeedScoreStrategy();
+        checkSameScores("difficulty", ScoringBenchmark::legacyDifficulty, difficulty);
+        checkSameScores("speed", ScoringBenchmark::legacySpeed, speed);
+
+        Batch legacyDifficulty = () -> {
+            long total = 0;
+            for (int i = 0; i < INPUTS; i++) {
+                total += legacyDifficulty(codes[i], times[i]);
+            }
+            return total;
+        };
+        Batch tableDifficulty = () -> {
+            long total = 0;
+            for (int i = 0; i < INPUTS; i++) {
+                total += difficulty.calculateScore(difficulties[i], times[i]);
+            }
+            return total;
+        };
+        Batch legacySpeed = () -> {
+            long total = 0;
+            for (int i = 0; i < INPUTS; i++) {
+                total += legacySpeed(codes[i], times[i]);
+            }
+            return total;
+        };
+        Batch tableSpeed = () -> {
+            long total = 0;
+            for (int i = 0; i < INPUTS; i++) {
+                total += speed.calculateScore(difficulties[i], times[i]);
+            }
+            return total;
+        };
+
+        for (boolean quiet : new boolean[] {true, false}) {
+            int n = quiet ? iterations / 10 : iterations;
+            run("difficulty/string", legacyDifficulty, n, quiet);
+            run("difficulty/table", tableDifficulty, n, quiet);
+            run("speed/string", legacySpeed, n, quiet);
+            run("speed/table", tableSpeed, n, quiet);
+        }
+    }
+
+    private static void checkSameScores(String name, LegacyScore legacy, ScoringStrategy table) {
+        for (Difficulty d : Difficulty.values()) {
+            for (long t = 0; t <= MAX_CHECKED_SECONDS; t++) {
+                int expected = legacy.score(d.code(), t);
+                int actual = table.calculateScore(d, t);
+                if (expected != actual) {
+                    throw new IllegalStateException(name + ": " + d + " at " + t + "s scores " + actual
+                            + ", expected " + expected);
+                }
+            }
+        }
+    }
+
+    private static void run(String name, Batch batch, int n, boolean quiet) {
+        int rounds = Math.max(1, n / INPUTS);
+        n = rounds * INPUTS;
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long total = 0;
+        for (int r = 0; r < rounds; r++) {
+            total += batch.scoreAll();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = allocatedBytes() - bytesBefore;
+        sink = total;
+        if (quiet) {
+            return;
+        }
+        System.out.printf("  %-18s %6.2f ns/score  %8s bytes/score%n", name, elapsed / (double) n,
+                bytesBefore < 0 ? "n/a" : String.format("%.2f", bytes / (double) n));
+    }
+
+    /** DifficultyScoreStrategy before the lookup table. */
+    private static int legacyDifficulty(String difficulty, long timeTaken) {
+        switch (difficulty.toLowerCase()) {
+            case "easy":
+                return 5;
+            case "medium":
+                return 10;
+            case "hard":
+                return 15;
+            default:
+                return 10;
+        }
+    }
+
+    /** SpeedScoreStrategy before the lookup table. */
+    private static int legacySpeed(String difficulty, long timeTaken) {
+        int score = 10;
+        if (timeTaken < 5) {
+            score += (int) (5 - timeTaken) * 2;
+        }
+        if (difficulty.equalsIgnoreCase("hard")) {
+            score += 5;
+        } else if (difficulty.equalsIgnoreCase("medium")) {
+            score += 2;
+        }
+        return Math.max(score, 5);
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private interface Batch {
+        long scoreAll();
+    }
+
+    private interface LegacyScore {
+        int score(String difficulty, long timeTaken);
+    }
+}
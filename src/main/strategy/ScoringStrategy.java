@@ -1,5 +1,7 @@
 package main.strategy;
 
+import main.question.Difficulty;
+
 /**
  * STRATEGY PATTERN - Strategy Interface
  * 
@@ -15,12 +17,14 @@ package main.strategy;
 public interface ScoringStrategy {
     /**
      * Tính điểm dựa trên độ khó và thời gian làm bài
+     * Được gọi cho mỗi câu trả lời đúng (cả khi chấm hàng loạt), nên không xử lý chuỗi
+     * và không cấp phát: tra bảng điểm tính sẵn theo difficulty.ordinal()
      * 
-     * @param difficulty Độ khó: "easy", "medium", "hard"
+     * @param difficulty Độ khó: EASY, MEDIUM, HARD
      * @param timeTaken Thời gian làm bài (giây)
      * @return Điểm số
      */
-    int calculateScore(String difficulty, long timeTaken);
+    int calculateScore(Difficulty difficulty, long timeTaken);
     
     /**
      * Lấy tên của chiến lược (để hiển thị)
@@ -1,5 +1,7 @@
 package main.strategy;
 
+import main.question.Difficulty;
+
 /**
  * STRATEGY PATTERN - Concrete Strategy
  * 
@@ -10,30 +12,52 @@ public class SpeedScoreStrategy implements ScoringStrategy {
     private static final int BASE_SCORE = 10;
     private static final int BONUS_PER_FAST_SECOND = 2;
     private static final int FAST_THRESHOLD = 5; // Nếu trả lời dưới 5 giây = nhanh
+    private static final int MIN_SCORE = 5;
+    
+    // Có thể kết hợp với độ khó: điểm cộng theo Difficulty.ordinal()
+    private static final int[] DIFFICULTY_BONUS = new int[Difficulty.values().length];
+    
+    // Bảng điểm tính sẵn: [ordinal * ROW + giây], giây 0..FAST_THRESHOLD
+    // (từ FAST_THRESHOLD giây trở lên không còn bonus nên điểm không đổi)
+    private static final int ROW = FAST_THRESHOLD + 1;
+    private static final int[] SCORES = new int[Difficulty.values().length * ROW];
+    
+    static {
+        DIFFICULTY_BONUS[Difficulty.EASY.ordinal()] = 0;
+        DIFFICULTY_BONUS[Difficulty.MEDIUM.ordinal()] = 2;
+        DIFFICULTY_BONUS[Difficulty.HARD.ordinal()] = 5;
+        for (Difficulty d : Difficulty.values()) {
+            for (int t = 0; t < ROW; t++) {
+                SCORES[d.ordinal() * ROW + t] = compute(d, t);
+            }
+        }
+    }
     
     /**
      * STRATEGY PATTERN: Implement algorithm cụ thể
      * Tính điểm dựa trên tốc độ trả lời
      * Càng nhanh càng nhiều điểm bonus
+     * Thời gian âm (đồng hồ bị chỉnh lùi) được tính như 0 giây
      */
     @Override
-    public int calculateScore(String difficulty, long timeTaken) {
+    public int calculateScore(Difficulty difficulty, long timeTaken) {
+        int t = timeTaken <= 0 ? 0 : (int) Math.min(timeTaken, FAST_THRESHOLD);
+        return SCORES[difficulty.ordinal() * ROW + t];
+    }
+    
+    /**
+     * Công thức gốc, chỉ dùng khi dựng bảng SCORES
+     */
+    private static int compute(Difficulty difficulty, int timeTaken) {
         int score = BASE_SCORE;
         
         // Thêm điểm bonus nếu trả lời nhanh
         if (timeTaken < FAST_THRESHOLD) {
-            int bonus = (int)(FAST_THRESHOLD - timeTaken) * BONUS_PER_FAST_SECOND;
-            score += bonus;
-        }
-        
-        // Có thể kết hợp với độ khó
-        if (difficulty.equalsIgnoreCase("hard")) {
-            score += 5;
-        } else if (difficulty.equalsIgnoreCase("medium")) {
-            score += 2;
+            score += (FAST_THRESHOLD - timeTaken) * BONUS_PER_FAST_SECOND;
         }
         
-        return Math.max(score, 5); // Tối thiểu 5 điểm
+        score += DIFFICULTY_BONUS[difficulty.ordinal()];
+        return Math.max(score, MIN_SCORE); // Tối thiểu 5 điểm
     }
     
     @Override